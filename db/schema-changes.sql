@@ -0,0 +1,22 @@
+-- USER-SERVICE 스키마 변경 DDL (MySQL / MariaDB)
+-- dev/prod 는 ddl-auto: none, local 은 ddl-auto: validate 이므로 애플리케이션 배포 전에 직접 적용해야 합니다.
+
+-- 클러스터 단위 스케줄 작업 잠금 및 토큰 저장소 불일치 표시 (ClusterLockService, RedisTokenReconciliationService)
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    lock_name    VARCHAR(64)  NOT NULL,
+    locked_until DATETIME(6)  NOT NULL,
+    locked_at    DATETIME(6)  NOT NULL,
+    locked_by    VARCHAR(128) NOT NULL,
+    PRIMARY KEY (lock_name)
+);
+
+-- 기기별 세션 (deviceId 없이 발급된 기존 토큰은 세 컬럼 모두 NULL)
+ALTER TABLE refresh_tokens
+    ADD COLUMN tenant_id SMALLINT    NULL,
+    ADD COLUMN user_id   BIGINT      NULL,
+    ADD COLUMN device_id VARCHAR(64) NULL;
+
+CREATE INDEX idx_refresh_token_session ON refresh_tokens (tenant_id, user_id, device_id);
+
+-- 사용자 검색 커서 페이지 (t_id, user_id 키셋)
+CREATE INDEX users_t_id_user_id_IDX ON users (t_id, user_id);
@@ -0,0 +1,44 @@
+package com.lts5.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JWT 서명 설정 (app.jwt.signing)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.jwt.signing")
+public class JwtSigningProperties {
+
+    // hmac: 기존 HS256 공유 비밀키, asymmetric: 개인키 서명 + JWKS 공개키 배포
+    private String mode = "hmac";
+
+    // 비대칭 서명 알고리즘 (ES256, ES384, ES512, RS256, RS384, RS512, PS256, PS384, PS512)
+    private String algorithm = "ES256";
+
+    // 서명에 사용할 키 ID (비어 있으면 개인키가 있는 첫 번째 키)
+    private String activeKid;
+
+    // 전환 기간 동안 기존 HS256 토큰 검증 허용 여부
+    private boolean acceptHmac = true;
+
+    // 서명/검증 키 목록 (교체 시 이전 키는 공개키만 남겨 검증에 사용)
+    private List<Key> keys = new ArrayList<>();
+
+    // 키 목록이 비어 있을 때 기동 시 임시 키 생성 허용 여부 (로컬 개발 전용, false 이면 기동 실패)
+    private boolean allowEphemeralKey = false;
+
+    @Data
+    public static class Key {
+        private String kid;
+        // PKCS#8 (PEM 또는 Base64 DER)
+        private String privateKey;
+        // X.509 SubjectPublicKeyInfo (PEM 또는 Base64 DER)
+        private String publicKey;
+    }
+}
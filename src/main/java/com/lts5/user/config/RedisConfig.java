@@ -7,62 +7,103 @@ import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 
+/**
+ * Redis 연결 설정
+ * - spring.data.redis.cluster.nodes → Cluster, spring.data.redis.sentinel.master → Sentinel, 그 외 Standalone 으로 연결합니다.
+ * - spring.data.redis.lettuce.pool 이 활성화되면(기본) commons-pool2 커넥션 풀을 사용합니다.
+ *   share-native-connection=true 이면 일반 명령은 공유 커넥션에서 다중화하고, 블로킹/트랜잭션(MULTI)/파이프라인 명령만 풀의 전용 커넥션을 씁니다.
+ *   false 이면 모든 명령이 풀에서 커넥션을 빌리므로 pool.max-active 를 동시 요청 수에 맞춰야 합니다.
+ * - app.redis.read-from 은 복제본이 있는 Sentinel/Cluster 에서만 적용합니다. (Standalone 은 항상 단일 노드)
+ * - Cluster 연결은 Spring Data Redis 가 파이프라인을 지원하지 않으므로, 대량 저장/조회/무효화 전파/재동기화는 RedisPipeline 을 통해
+ *   Cluster 에서 키별 순차 전송(조회는 슬롯별 MGET)으로 전환됩니다. 여러 키를 쓰는 Lua 스크립트는 사용하지 않습니다.
+ */
 @Configuration
 @Slf4j
 public class RedisConfig {
 
-    @Value("${spring.data.redis.host}")
-    private String redisHost;
+    private final RedisProperties redisProperties;
 
-    @Value("${spring.data.redis.port}")
-    private int redisPort;
+    // upstream: 쓰기 노드에서만 읽음, replicaPreferred 등: 복제 지연 동안 삭제된 토큰이 보일 수 있음
+    @Value("${app.redis.read-from:upstream}")
+    private String readFrom;
+
+    @Value("${app.redis.share-native-connection:true}")
+    private boolean shareNativeConnection;
+
+    public RedisConfig(RedisProperties redisProperties) {
+        this.redisProperties = redisProperties;
+    }
 
     @Bean
     public LettuceClientConfiguration lettuceClientConfiguration() {
+        RedisProperties.Lettuce lettuce = redisProperties.getLettuce();
+
         SocketOptions socketOptions = SocketOptions.builder()
-                .connectTimeout(Duration.ofSeconds(5))
+                .connectTimeout(orDefault(redisProperties.getConnectTimeout(), Duration.ofSeconds(5)))
                 .keepAlive(true)
                 .tcpNoDelay(true)
                 .build();
 
         TimeoutOptions timeoutOptions = TimeoutOptions.builder()
-                .fixedTimeout(Duration.ofSeconds(5))
+                .fixedTimeout(orDefault(redisProperties.getTimeout(), Duration.ofSeconds(5)))
                 .build();
 
-        ClientOptions clientOptions = ClientOptions.builder()
-                .socketOptions(socketOptions)
-                .timeoutOptions(timeoutOptions)
-                .autoReconnect(true)
-                .cancelCommandsOnReconnectFailure(true)
-                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
-                .build();
+        ClientOptions clientOptions = isCluster()
+                ? clusterClientOptions(socketOptions, timeoutOptions, lettuce.getCluster().getRefresh())
+                : ClientOptions.builder()
+                        .socketOptions(socketOptions)
+                        .timeoutOptions(timeoutOptions)
+                        .autoReconnect(true)
+                        .cancelCommandsOnReconnectFailure(true)
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .build();
 
-        return LettuceClientConfiguration.builder()
-                .clientOptions(clientOptions)
-                .readFrom(ReadFrom.REPLICA_PREFERRED)
-                .commandTimeout(Duration.ofSeconds(10))
-                .shutdownTimeout(Duration.ofMillis(100))
-                .build();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = isPoolEnabled(lettuce.getPool())
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(lettuce.getPool()))
+                : LettuceClientConfiguration.builder();
+        builder.clientOptions(clientOptions)
+                .commandTimeout(orDefault(redisProperties.getTimeout(), Duration.ofSeconds(10)))
+                .shutdownTimeout(orDefault(lettuce.getShutdownTimeout(), Duration.ofMillis(100)));
+        if (redisProperties.getSsl().isEnabled()) {
+            builder.useSsl();
+        }
+        if (isCluster() || isSentinel()) {
+            builder.readFrom(ReadFrom.valueOf(readFrom));
+        }
+        return builder.build();
     }
 
     @Bean
     @Primary
     public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration redisConfig = new RedisStandaloneConfiguration(redisHost, redisPort);
-        return new LettuceConnectionFactory(redisConfig, lettuceClientConfiguration());
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(redisConfiguration(), lettuceClientConfiguration());
+        connectionFactory.setShareNativeConnection(shareNativeConnection);
+        log.info("✅ Redis 연결 설정 - topology: {}, pool: {}, shareNativeConnection: {}",
+                isCluster() ? "cluster" : isSentinel() ? "sentinel" : "standalone",
+                isPoolEnabled(redisProperties.getLettuce().getPool()), shareNativeConnection);
+        return connectionFactory;
     }
 
     @Bean
@@ -79,4 +120,98 @@ public class RedisConfig {
         log.info("✅ RedisTemplate 설정 완료");
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * 파드 간 캐시 무효화 메시지 수신용 컨테이너 (리스너가 등록된 경우에만 구독 연결을 생성)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    private RedisConfiguration redisConfiguration() {
+        RedisPassword password = RedisPassword.of(redisProperties.getPassword());
+        if (isCluster()) {
+            RedisProperties.Cluster cluster = redisProperties.getCluster();
+            RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+            if (cluster.getMaxRedirects() != null) {
+                config.setMaxRedirects(cluster.getMaxRedirects());
+            }
+            config.setUsername(redisProperties.getUsername());
+            config.setPassword(password);
+            return config;
+        }
+        if (isSentinel()) {
+            RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+            RedisSentinelConfiguration config = new RedisSentinelConfiguration();
+            config.master(sentinel.getMaster());
+            sentinel.getNodes().forEach(node -> config.sentinel(RedisNode.fromString(node)));
+            config.setSentinelUsername(sentinel.getUsername());
+            config.setSentinelPassword(RedisPassword.of(sentinel.getPassword()));
+            config.setUsername(redisProperties.getUsername());
+            config.setPassword(password);
+            config.setDatabase(redisProperties.getDatabase());
+            return config;
+        }
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        config.setUsername(redisProperties.getUsername());
+        config.setPassword(password);
+        config.setDatabase(redisProperties.getDatabase());
+        return config;
+    }
+
+    private static ClusterClientOptions clusterClientOptions(SocketOptions socketOptions, TimeoutOptions timeoutOptions,
+                                                             RedisProperties.Lettuce.Cluster.Refresh refresh) {
+        ClusterTopologyRefreshOptions.Builder refreshOptions = ClusterTopologyRefreshOptions.builder()
+                .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+        if (refresh.getPeriod() != null) {
+            refreshOptions.enablePeriodicRefresh(refresh.getPeriod());
+        }
+        if (refresh.isAdaptive()) {
+            refreshOptions.enableAllAdaptiveRefreshTriggers();
+        }
+        return ClusterClientOptions.builder()
+                .socketOptions(socketOptions)
+                .timeoutOptions(timeoutOptions)
+                .topologyRefreshOptions(refreshOptions.build())
+                .autoReconnect(true)
+                .cancelCommandsOnReconnectFailure(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .build();
+    }
+
+    private static GenericObjectPoolConfig<?> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            config.setMaxWait(pool.getMaxWait());
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
+
+    // enabled 미지정 시 commons-pool2 의존성이 있으므로 풀 사용
+    private static boolean isPoolEnabled(RedisProperties.Pool pool) {
+        return pool.getEnabled() == null || pool.getEnabled();
+    }
+
+    private boolean isCluster() {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        return cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty();
+    }
+
+    private boolean isSentinel() {
+        RedisProperties.Sentinel sentinel = redisProperties.getSentinel();
+        return sentinel != null && sentinel.getMaster() != null;
+    }
+
+    private static Duration orDefault(Duration value, Duration defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+}
@@ -1,5 +1,7 @@
 package com.lts5.user.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -7,17 +9,24 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Configuration
 public class SecurityConfig {
 
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final int CALIBRATION_SAMPLES = 5;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -66,8 +75,91 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * 비밀번호 인코더
+     * - 새 해시는 기존과 같이 접두사 없는 BCrypt 로 저장해, 이전 BCryptPasswordEncoder 로 되돌려도 검증할 수 있게 합니다.
+     * - 검증은 DelegatingPasswordEncoder 로 하며, 접두사가 없는 해시는 BCrypt 로, {id} 접두사가 있는 해시는 해당 인코더로 검증합니다.
+     * - app.password.target-millis 가 설정되면 기동 시 해시 1회가 목표 시간에 가깝도록 BCrypt cost 를 측정합니다.
+     *   (min-strength 미만으로는 내려가지 않으며, 기본값 0 은 측정 없이 min-strength 사용)
+     * - upgradeEncoding 은 접두사 유무가 아니라 cost/알고리즘이 실제로 현재 설정과 다를 때만 true 입니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.password.target-millis:0}") long targetMillis,
+                                           @Value("${app.password.min-strength:10}") int minStrength,
+                                           @Value("${app.password.max-strength:14}") int maxStrength) {
+        int strength = calibrateBcryptStrength(targetMillis, minStrength, maxStrength);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new LegacyCompatiblePasswordEncoder(bcrypt, delegating);
+    }
+
+    /**
+     * 접두사 없는 BCrypt 로 인코딩하고, 검증/재해시 판단은 저장된 해시 형식에 맞게 위임하는 인코더
+     */
+    private static final class LegacyCompatiblePasswordEncoder implements PasswordEncoder {
+
+        private final BCryptPasswordEncoder bcrypt;
+        private final DelegatingPasswordEncoder delegating;
+
+        private LegacyCompatiblePasswordEncoder(BCryptPasswordEncoder bcrypt, DelegatingPasswordEncoder delegating) {
+            this.bcrypt = bcrypt;
+            this.delegating = delegating;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return bcrypt.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return delegating.matches(rawPassword, encodedPassword);
+        }
+
+        @Override
+        public boolean upgradeEncoding(String encodedPassword) {
+            if (encodedPassword == null || encodedPassword.isEmpty()) {
+                return false;
+            }
+            // 접두사 없는 해시는 BCrypt cost 가 현재 설정보다 낮을 때만 재해시
+            if (!encodedPassword.startsWith("{")) {
+                return bcrypt.upgradeEncoding(encodedPassword);
+            }
+            // 다른 알고리즘 접두사는 재해시 대상, {bcrypt} 는 cost 만 비교
+            return delegating.upgradeEncoding(encodedPassword);
+        }
+    }
+
+    /**
+     * 최소 cost 로 해시 시간을 여러 번 측정한 중앙값으로, cost 1 증가마다 시간이 2배가 되는 것을 이용해 목표 시간 이하의 최대 cost 를 계산합니다.
+     * (측정 1회의 잡음으로 인스턴스마다 cost 가 달라지지 않도록 중앙값 사용)
+     */
+    private static int calibrateBcryptStrength(long targetMillis, int minStrength, int maxStrength) {
+        if (targetMillis <= 0) {
+            return minStrength;
+        }
+
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration-warmup");
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            probe.encode("calibration-probe");
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        long elapsedMillis = Math.max(1, samples[samples.length / 2] / 1_000_000);
+
+        int strength = minStrength;
+        long expectedMillis = elapsedMillis;
+        while (strength < maxStrength && expectedMillis * 2 <= targetMillis) {
+            strength++;
+            expectedMillis *= 2;
+        }
+        log.info("BCrypt cost 측정 완료 - cost {}: {}ms, 선택 cost: {} (예상 {}ms, 목표 {}ms)",
+                minStrength, elapsedMillis, strength, expectedMillis, targetMillis);
+        return strength;
     }
 }
\ No newline at end of file
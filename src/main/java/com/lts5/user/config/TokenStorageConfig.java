@@ -1,15 +1,24 @@
 package com.lts5.user.config;
 
 import com.lts5.user.service.DatabaseTokenStorageService;
+import com.lts5.user.service.DigestSessionStorageService;
+import com.lts5.user.service.DigestTokenStorageService;
+import com.lts5.user.service.FallbackSessionStorageService;
 import com.lts5.user.service.FallbackTokenStorageService;
+import com.lts5.user.service.NearCacheTokenStorageService;
 import com.lts5.user.service.RedisHealthService;
+import com.lts5.user.service.RedisTokenReconciliationService;
+import com.lts5.user.service.SessionStorageService;
 import com.lts5.user.service.TokenStorageService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Slf4j
 @Configuration
@@ -19,11 +28,48 @@ public class TokenStorageConfig {
     @Primary
     public TokenStorageService tokenStorageService(RedisTemplate<String, String> redisTemplate, 
                                                    RedisHealthService redisHealthService,
-                                                   DatabaseTokenStorageService databaseTokenStorageService) {
+                                                   DatabaseTokenStorageService databaseTokenStorageService,
+                                                   RedisTokenReconciliationService reconciliationService,
+                                                   RedisMessageListenerContainer redisMessageListenerContainer,
+                                                   @Value("${app.token-storage.near-cache.enabled:false}") boolean nearCacheEnabled,
+                                                   @Value("${app.token-storage.near-cache.max-size:50000}") int nearCacheMaxSize,
+                                                   @Value("${app.token-storage.near-cache.ttl-millis:30000}") long nearCacheTtlMillis,
+                                                   @Value("${app.token-storage.digest.enabled:false}") boolean digestEnabled,
+                                                   @Value("${app.token-storage.digest.accept-legacy:true}") boolean acceptLegacy) {
         log.info("Redis + DB Fallback 토큰 저장소를 초기화합니다.");
-        return new FallbackTokenStorageService(redisTemplate, redisHealthService, databaseTokenStorageService);
+        TokenStorageService storage = new FallbackTokenStorageService(
+                redisTemplate, redisHealthService, databaseTokenStorageService, reconciliationService);
+        if (nearCacheEnabled) {
+            log.info("Refresh token 근접 캐시를 활성화합니다. (maxSize: {}, ttl: {}ms)", nearCacheMaxSize, nearCacheTtlMillis);
+            NearCacheTokenStorageService nearCache = new NearCacheTokenStorageService(
+                    storage, redisTemplate, redisHealthService, nearCacheMaxSize, nearCacheTtlMillis);
+            redisMessageListenerContainer.addMessageListener(nearCache,
+                    new ChannelTopic(NearCacheTokenStorageService.INVALIDATION_CHANNEL));
+            storage = nearCache;
+        }
+        if (digestEnabled) {
+            // 가장 바깥에서 다이제스트로 바꾸므로 근접 캐시/Redis/DB 모두 다이제스트만 보관
+            log.info("Refresh token 다이제스트 저장 모드를 활성화합니다. (acceptLegacy: {})", acceptLegacy);
+            storage = new DigestTokenStorageService(storage, acceptLegacy);
+        }
+        return storage;
     }
     
+    @Bean
+    @Primary
+    public SessionStorageService sessionStorageService(RedisTemplate<String, String> redisTemplate,
+                                                       RedisHealthService redisHealthService,
+                                                       DatabaseTokenStorageService databaseTokenStorageService,
+                                                       RedisTokenReconciliationService reconciliationService,
+                                                       @Value("${app.session.max-devices:10}") int maxDevices,
+                                                       @Value("${app.token-storage.digest.enabled:false}") boolean digestEnabled,
+                                                       @Value("${app.token-storage.digest.accept-legacy:true}") boolean acceptLegacy) {
+        log.info("기기별 세션 저장소를 초기화합니다. (maxDevices: {})", maxDevices);
+        SessionStorageService storage = new FallbackSessionStorageService(
+                redisTemplate, redisHealthService, databaseTokenStorageService, reconciliationService, maxDevices);
+        return digestEnabled ? new DigestSessionStorageService(storage, acceptLegacy) : storage;
+    }
+
     @Bean
     @ConditionalOnProperty(name = "app.token-storage.type", havingValue = "database", matchIfMissing = false)
     public TokenStorageService databaseTokenStorageService(DatabaseTokenStorageService databaseTokenStorageService) {
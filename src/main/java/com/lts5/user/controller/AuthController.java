@@ -1,6 +1,8 @@
 package com.lts5.user.controller;
 
+import com.lts5.user.exception.LoginOverloadedException;
 import com.lts5.user.payload.request.auth.LoginRequest;
+import com.lts5.user.payload.request.auth.PermissionCheckBatchRequest;
 import com.lts5.user.payload.request.auth.RegisterRequest;
 import com.lts5.user.payload.request.auth.ResetPasswordRequest;
 import com.lts5.user.payload.request.auth.RefreshTokenRequest;
@@ -17,6 +19,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -129,4 +133,53 @@ public class AuthController {
         @Parameter(description = "권한 코드", example = "purchase:create") @RequestParam String code) {
         return CommonResponse.createSuccess(authService.checkPermission(userId, code));
     }
+
+    @Operation(summary = "권한 일괄 확인 (사용자 ID → 권한 코드 → 보유 여부)")
+    @PostMapping("/check/batch")
+    public CommonResponse<?> checkBatch(@Valid @RequestBody PermissionCheckBatchRequest request) {
+        return CommonResponse.createSuccess(authService.checkPermissions(request));
+    }
+
+    @Operation(summary = "권한 사전 조회 (Access Token perms 클레임 해석용, perm_ver 포함)")
+    @GetMapping("/permissions/dictionary")
+    public CommonResponse<?> permissionDictionary(
+        @Parameter(description = "테넌트 ID", example = "1") @RequestParam Short tenantId) {
+        return CommonResponse.createSuccess(authService.getPermissionDictionary(tenantId));
+    }
+
+    @Operation(summary = "테넌트 전체 세션 폐기 (모든 사용자의 Refresh Token 일괄 삭제)")
+    @DeleteMapping("/sessions")
+    public CommonResponse<?> revokeTenantSessions(
+        @Parameter(description = "테넌트 ID", example = "1") @RequestParam Short tenantId) {
+        return CommonResponse.createSuccess(authService.revokeTenantSessions(tenantId));
+    }
+
+    @Operation(summary = "사용자 기기별 세션 목록 조회")
+    @GetMapping("/sessions/{userId}")
+    public CommonResponse<?> sessions(
+        @Parameter(description = "사용자 ID", example = "151967158571009") @PathVariable Long userId,
+        @Parameter(description = "테넌트 ID", example = "1") @RequestParam Short tenantId) {
+        return CommonResponse.createSuccess(authService.getSessions(tenantId, userId));
+    }
+
+    @Operation(summary = "사용자 특정 기기 세션 폐기")
+    @DeleteMapping("/sessions/{userId}/{deviceId}")
+    public CommonResponse<?> revokeSession(
+        @Parameter(description = "사용자 ID", example = "151967158571009") @PathVariable Long userId,
+        @Parameter(description = "기기 ID", example = "pop-terminal-01") @PathVariable String deviceId,
+        @Parameter(description = "테넌트 ID", example = "1") @RequestParam Short tenantId) {
+        authService.revokeSession(tenantId, userId, deviceId);
+        return CommonResponse.createSuccessWithNoContent();
+    }
+
+    /**
+     * 비밀번호 검증 대기열 초과 시 503 + Retry-After 로 응답합니다. (로그인 API 에서만 발생)
+     */
+    @ExceptionHandler(LoginOverloadedException.class)
+    public ResponseEntity<CommonResponse<?>> handleLoginOverloaded(LoginOverloadedException e) {
+        log.warn("로그인 요청 거부 (대기열 초과) - retryAfter: {}s", e.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(CommonResponse.createError(e.getMessage()));
+    }
 }
@@ -0,0 +1,67 @@
+package com.lts5.user.controller;
+
+import com.lts5.user.payload.response.AutocompleteResponse;
+import com.lts5.user.service.AutocompleteService;
+import com.lts5.user.service.AutocompleteService.Target;
+import com.primes.library.common.response.CommonResponse;
+import com.primes.library.filter.TenantContext;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/autocomplete")
+@Tag(name = "Autocomplete", description = "자동완성 API")
+public class AutocompleteController {
+    private final AutocompleteService autocompleteService;
+
+    @Operation(summary = "사용자 자동완성", description = "사용자명 또는 이름이 접두어로 시작하는 사용자 (대소문자 무시)")
+    @GetMapping("/users")
+    public CommonResponse<List<AutocompleteResponse>> users(
+            @Parameter(description = "접두어") @NotBlank @RequestParam String q,
+            @Positive @Max(50) @RequestParam(defaultValue = "10") Integer limit) {
+        return suggest(Target.USER, q, limit);
+    }
+
+    @Operation(summary = "그룹 자동완성", description = "그룹명이 접두어로 시작하는 그룹 (대소문자 무시)")
+    @GetMapping("/groups")
+    public CommonResponse<List<AutocompleteResponse>> groups(
+            @Parameter(description = "접두어") @NotBlank @RequestParam String q,
+            @Positive @Max(50) @RequestParam(defaultValue = "10") Integer limit) {
+        return suggest(Target.GROUP, q, limit);
+    }
+
+    @Operation(summary = "역할 자동완성", description = "역할명이 접두어로 시작하는 역할 (대소문자 무시)")
+    @GetMapping("/roles")
+    public CommonResponse<List<AutocompleteResponse>> roles(
+            @Parameter(description = "접두어") @NotBlank @RequestParam String q,
+            @Positive @Max(50) @RequestParam(defaultValue = "10") Integer limit) {
+        return suggest(Target.ROLE, q, limit);
+    }
+
+    @Operation(summary = "권한 자동완성", description = "권한 코드가 접두어로 시작하는 권한 (대소문자 무시)")
+    @GetMapping("/permissions")
+    public CommonResponse<List<AutocompleteResponse>> permissions(
+            @Parameter(description = "접두어") @NotBlank @RequestParam String q,
+            @Positive @Max(50) @RequestParam(defaultValue = "10") Integer limit) {
+        return suggest(Target.PERMISSION, q, limit);
+    }
+
+    private CommonResponse<List<AutocompleteResponse>> suggest(Target target, String q, int limit) {
+        Short tenantId = TenantContext.getTenantId();
+        return CommonResponse.createSuccess(autocompleteService.suggest(target, tenantId, q, limit));
+    }
+}
@@ -14,8 +14,8 @@ import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -40,11 +40,15 @@ public class GroupController {
 
     @Operation(summary = "그룹 조회")
     @GetMapping("")
-    public CommonResponse<Page<GroupDto>> search(
+    public CommonResponse<Slice<GroupDto>> search(
             @Valid GroupSearchRequest searchRequest,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer page,
-            @Positive @RequestParam(defaultValue = "10") Integer size) {
+            @Positive @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "false 이면 전체 건수(COUNT) 없이 다음 페이지 존재 여부만 반환") @RequestParam(defaultValue = "true") Boolean withTotal) {
         PageRequest pageRequest = PageRequest.of(page, size);
+        if (!withTotal) {
+            return CommonResponse.createSuccess(groupService.searchSlice(searchRequest, pageRequest));
+        }
         return CommonResponse.createSuccess(groupService.search(searchRequest, pageRequest));
     }
 
@@ -54,6 +54,12 @@ public class HealthController {
         return CommonResponse.createSuccess(result);
     }
 
+    @Operation(summary = "Redis 서킷 브레이커 상태 확인 (상태, 실패율, 전환 횟수)")
+    @GetMapping("/redis/circuit-breaker")
+    public CommonResponse<?> checkRedisCircuitBreaker() {
+        return CommonResponse.createSuccess(redisHealthService.getCircuitBreakerStatus());
+    }
+
     @Operation(summary = "토큰 저장소 상태 확인")
     @GetMapping("/token-storage")
     public CommonResponse<?> checkTokenStorageHealth() {
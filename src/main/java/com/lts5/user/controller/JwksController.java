@@ -0,0 +1,37 @@
+package com.lts5.user.controller;
+
+import com.lts5.user.util.JwtKeyManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "JWKS", description = "토큰 검증용 공개키 API")
+public class JwksController {
+
+    private final JwtKeyManager jwtKeyManager;
+
+    // 키 교체 시 새 키는 이 시간 이상 먼저 공개한 뒤 서명에 사용해야 합니다.
+    private static final Duration JWKS_MAX_AGE = Duration.ofHours(1);
+
+    @Operation(summary = "JWKS 공개키 조회 (리소스 서버 오프라인 토큰 검증용)")
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        // JWKS 표준 형식을 유지하기 위해 CommonResponse 로 감싸지 않음
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE)
+                        .cachePublic()
+                        .staleWhileRevalidate(JWKS_MAX_AGE)
+                        .staleIfError(Duration.ofDays(1)))
+                .body(jwtKeyManager.getJwks());
+    }
+}
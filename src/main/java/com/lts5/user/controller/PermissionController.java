@@ -8,13 +8,14 @@ import com.lts5.user.payload.request.permission.PermissionUpdateAllRequest;
 import com.lts5.user.service.PermissionService;
 import com.primes.library.common.response.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -39,11 +40,15 @@ public class PermissionController {
 
     @Operation(summary = "권한 조회")
     @GetMapping("")
-    public CommonResponse<Page<PermissionDto>> search(
+    public CommonResponse<Slice<PermissionDto>> search(
             @Valid PermissionSearchRequest searchRequest,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer page,
-            @Positive @RequestParam(defaultValue = "10") Integer size) {
+            @Positive @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "false 이면 전체 건수(COUNT) 없이 다음 페이지 존재 여부만 반환") @RequestParam(defaultValue = "true") Boolean withTotal) {
         PageRequest pageRequest = PageRequest.of(page, size);
+        if (!withTotal) {
+            return CommonResponse.createSuccess(permissionService.searchSlice(searchRequest, pageRequest));
+        }
         return CommonResponse.createSuccess(permissionService.search(searchRequest, pageRequest));
     }
 
@@ -2,8 +2,8 @@ package com.lts5.user.controller;
 
 import java.util.List;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -42,11 +42,15 @@ public class RoleController {
 
     @Operation(summary = "역할 조회")
     @GetMapping("")
-    public CommonResponse<Page<RoleDto>> search(
+    public CommonResponse<Slice<RoleDto>> search(
             @Valid RoleSearchRequest searchRequest,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer page,
-            @Positive @RequestParam(defaultValue = "10") Integer size) {
+            @Positive @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "false 이면 전체 건수(COUNT) 없이 다음 페이지 존재 여부만 반환") @RequestParam(defaultValue = "true") Boolean withTotal) {
         PageRequest pageRequest = PageRequest.of(page, size);
+        if (!withTotal) {
+            return CommonResponse.createSuccess(roleService.searchSlice(searchRequest, pageRequest));
+        }
         return CommonResponse.createSuccess(roleService.search(searchRequest, pageRequest));
     }
 
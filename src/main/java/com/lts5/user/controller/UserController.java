@@ -3,18 +3,21 @@ package com.lts5.user.controller;
 import com.lts5.user.dto.UserDto;
 import com.lts5.user.payload.request.user.UserSearchRequest;
 import com.lts5.user.payload.request.user.UserUpdateRequest;
+import com.lts5.user.payload.response.CursorPageResponse;
 import com.lts5.user.service.UserService;
+import com.lts5.user.util.ValidCursor;
 import com.primes.library.common.response.CommonResponse;
 import com.primes.library.filter.TenantContext;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,10 +32,11 @@ public class UserController {
 
     @Operation(summary = "사용자 조회")
     @GetMapping("")
-    public CommonResponse<Page<UserDto>> search(
+    public CommonResponse<Slice<UserDto>> search(
             @Valid UserSearchRequest searchRequest,
             @PositiveOrZero @RequestParam(defaultValue = "0") Integer page,
-            @Positive @RequestParam(defaultValue = "10") Integer size) {
+            @Positive @Max(1000) @RequestParam(defaultValue = "10") Integer size,
+            @Parameter(description = "false 이면 전체 건수(COUNT) 없이 다음 페이지 존재 여부만 반환") @RequestParam(defaultValue = "true") Boolean withTotal) {
         PageRequest pageRequest = PageRequest.of(page, size);
         
         // TenantContext 확인 및 디버깅
@@ -44,9 +48,21 @@ public class UserController {
             System.err.println("WARNING: TenantContext가 설정되지 않았습니다! tenantId: " + tenantId);
         }
         
+        if (!withTotal) {
+            return CommonResponse.createSuccess(userService.searchSlice(searchRequest, pageRequest));
+        }
         return CommonResponse.createSuccess(userService.search(searchRequest, pageRequest));
     }
 
+    @Operation(summary = "사용자 조회 (커서)", description = "ID 역순 커서 페이지네이션. 첫 페이지는 after 없이 요청하고, 이후 응답의 nextCursor 를 after 로 전달합니다. (전체 건수 미제공)")
+    @GetMapping("/cursor")
+    public CommonResponse<CursorPageResponse<UserDto>> searchByCursor(
+            @Valid UserSearchRequest searchRequest,
+            @Parameter(description = "이전 응답의 nextCursor") @ValidCursor @RequestParam(required = false) String after,
+            @Positive @Max(1000) @RequestParam(defaultValue = "10") Integer size) {
+        return CommonResponse.createSuccess(userService.searchByCursor(searchRequest, after, size));
+    }
+
     @Operation(summary = "사용자 수정")
     @PutMapping("/{username}")
     public CommonResponse<UserDto> update(
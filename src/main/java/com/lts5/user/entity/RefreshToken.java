@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Table(name = "refresh_tokens", indexes = {
     @Index(name = "idx_refresh_token_username", columnList = "username"),
-    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_refresh_token_session", columnList = "tenant_id, user_id, device_id")
 })
 public class RefreshToken {
 
@@ -36,6 +37,16 @@ public class RefreshToken {
     @Column(name = "refresh_token", nullable = false, length = 500)
     private String refreshToken;
 
+    // 기기별 세션 (deviceId 없이 발급된 기존 토큰은 세 컬럼 모두 null)
+    @Column(name = "tenant_id")
+    private Short tenantId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "device_id", length = 64)
+    private String deviceId;
+
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
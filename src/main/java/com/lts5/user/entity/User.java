@@ -27,6 +27,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Table(name = "users", indexes = {
     @Index(name = "users_t_id_IDX", columnList = "t_id,is_delete,is_use DESC"),
+    @Index(name = "users_t_id_user_id_IDX", columnList = "t_id,user_id"),
     @Index(name = "uq_users_tenant_username", columnList = "t_id,username", unique = true)
 })
 public class User extends BaseEntity {
@@ -130,19 +131,4 @@ public class User extends BaseEntity {
     public void setNewPassword(String password) {
         this.password = password;
     }
-
-    /**
-     * 부서, 직급, 직책 필드를 codeName으로 업데이트
-     */
-    public void convertToCodeName(String departmentName, String partLevelName, String partPositionName) {
-        if (departmentName != null) {
-            this.department = departmentName;
-        }
-        if (partLevelName != null) {
-            this.partLevel = partLevelName;
-        }
-        if (partPositionName != null) {
-            this.partPosition = partPositionName;
-        }
-    }
 }
\ No newline at end of file
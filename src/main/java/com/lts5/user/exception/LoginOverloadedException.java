@@ -0,0 +1,18 @@
+package com.lts5.user.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인 비밀번호 검증 대기열이 가득 차 요청을 처리할 수 없는 경우
+ * 503 Service Unavailable 과 Retry-After 헤더로 응답합니다.
+ */
+@Getter
+public class LoginOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginOverloadedException(long retryAfterSeconds) {
+        super("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
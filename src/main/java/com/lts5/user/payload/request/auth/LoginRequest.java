@@ -3,6 +3,7 @@ package com.lts5.user.payload.request.auth;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.NonNull;
 
@@ -19,4 +20,8 @@ public class LoginRequest {
     @NotNull
     @Schema(description = "테넌트 ID", example = "10001")
     private Short tenantId;
+
+    @Size(max = 64)
+    @Schema(description = "기기 ID (지정 시 기기별 세션으로 로그인, 다른 기기의 세션은 유지)", example = "pop-terminal-01")
+    private String deviceId;
 }
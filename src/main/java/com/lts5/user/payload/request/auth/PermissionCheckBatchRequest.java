@@ -0,0 +1,52 @@
+package com.lts5.user.payload.request.auth;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "권한 일괄 확인 요청 (userId + codes 또는 checks 중 하나 이상 사용)")
+public class PermissionCheckBatchRequest {
+    @Schema(description = "사용자 ID (codes 와 함께 사용)", example = "151967158571009")
+    private String userId;
+
+    @Size(max = 200)
+    @Schema(description = "권한 코드 목록", example = "[\"purchase:create\", \"purchase:read\"]")
+    private List<@NotNull @NotBlank String> codes;
+
+    @Valid
+    @Size(max = 200)
+    @Schema(description = "(사용자 ID, 권한 코드) 쌍 목록")
+    private List<@NotNull @Valid Check> checks;
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "userId + codes 또는 checks 중 하나 이상이 필요합니다.")
+    public boolean isRequestFormValid() {
+        boolean hasCodes = codes != null && !codes.isEmpty();
+        boolean hasChecks = checks != null && !checks.isEmpty();
+        // codes 는 userId 와 함께 사용
+        if (hasCodes && (userId == null || userId.isBlank())) {
+            return false;
+        }
+        return hasCodes || hasChecks;
+    }
+
+    @Data
+    public static class Check {
+        @NotBlank
+        @Schema(description = "사용자 ID", example = "151967158571009")
+        private String userId;
+
+        @NotBlank
+        @Schema(description = "권한 코드", example = "purchase:create")
+        private String code;
+    }
+}
@@ -0,0 +1,18 @@
+package com.lts5.user.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteResponse {
+    private Long id;
+    // 사용자명 / 그룹명 / 역할명 / 권한 코드
+    private String value;
+    // 표시용 보조 텍스트 (사용자 이름, 그룹/역할/권한 설명)
+    private String label;
+}
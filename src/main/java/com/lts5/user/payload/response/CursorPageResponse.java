@@ -0,0 +1,20 @@
+package com.lts5.user.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private Integer size;
+    private Boolean hasNext;
+    // 다음 페이지 요청 시 after 로 전달할 커서 (마지막 페이지면 null)
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.lts5.user.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PermissionDictionaryResponse {
+    private Short tenantId;
+    private Long permVer;
+    // perms 클레임의 비트 순서와 동일한 권한 코드 목록
+    private List<String> codes;
+}
@@ -0,0 +1,16 @@
+package com.lts5.user.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionRevokeResponse {
+    private Short tenantId;
+    // refresh token 삭제 대상이 된 사용자 수
+    private Integer revokedUsers;
+}
@@ -1,6 +1,7 @@
 package com.lts5.user.repository;
 
 import com.lts5.user.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,31 +19,98 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     /**
      * 사용자명으로 유효한 refresh token을 조회합니다.
      */
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.username = :username AND rt.isRevoked = false AND rt.expiresAt > :now")
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.username = :username AND rt.deviceId IS NULL AND rt.isRevoked = false AND rt.expiresAt > :now")
     Optional<RefreshToken> findValidTokenByUsername(@Param("username") String username, @Param("now") LocalDateTime now);
 
+    /**
+     * id 기준으로 lastId 이후의 유효한 refresh token을 조회합니다. (재동기화용 키셋 페이지)
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.id > :lastId AND rt.deviceId IS NULL AND rt.isRevoked = false AND rt.expiresAt > :now ORDER BY rt.id")
+    List<RefreshToken> findValidTokensAfter(@Param("lastId") Long lastId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 여러 사용자의 유효한 refresh token을 조회합니다.
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.username IN :usernames AND rt.deviceId IS NULL AND rt.isRevoked = false AND rt.expiresAt > :now")
+    List<RefreshToken> findValidTokensByUsernameIn(@Param("usernames") Collection<String> usernames, @Param("now") LocalDateTime now);
+
     /**
      * 사용자명으로 모든 refresh token을 조회합니다.
      */
     List<RefreshToken> findByUsername(String username);
 
     /**
-     * 만료된 토큰들을 삭제합니다.
+     * 사용자의 기기별 유효 세션을 조회합니다.
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tenantId = :tenantId AND rt.userId = :userId AND rt.deviceId IS NOT NULL " +
+           "AND rt.isRevoked = false AND rt.expiresAt > :now ORDER BY rt.expiresAt DESC")
+    List<RefreshToken> findValidSessions(@Param("tenantId") Short tenantId, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * id 기준으로 lastId 이후의 유효한 기기 세션을 조회합니다. (재동기화용 키셋 페이지)
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.id > :lastId AND rt.deviceId IS NOT NULL AND rt.isRevoked = false AND rt.expiresAt > :now ORDER BY rt.id")
+    List<RefreshToken> findValidSessionsAfter(@Param("lastId") Long lastId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 사용자의 특정 기기 유효 세션을 조회합니다.
+     */
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tenantId = :tenantId AND rt.userId = :userId AND rt.deviceId = :deviceId " +
+           "AND rt.isRevoked = false AND rt.expiresAt > :now")
+    Optional<RefreshToken> findValidSession(@Param("tenantId") Short tenantId, @Param("userId") Long userId,
+                                            @Param("deviceId") String deviceId, @Param("now") LocalDateTime now);
+
+    /**
+     * 사용자의 특정 기기 세션을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tenantId = :tenantId AND rt.userId = :userId AND rt.deviceId = :deviceId")
+    int deleteSession(@Param("tenantId") Short tenantId, @Param("userId") Long userId, @Param("deviceId") String deviceId);
+
+    /**
+     * 사용자의 모든 기기 세션을 삭제합니다.
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    int deleteExpiredTokens(@Param("now") LocalDateTime now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tenantId = :tenantId AND rt.userId = :userId AND rt.deviceId IS NOT NULL")
+    int deleteSessions(@Param("tenantId") Short tenantId, @Param("userId") Long userId);
+
+    /**
+     * 테넌트의 모든 기기 세션을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.tenantId = :tenantId AND rt.deviceId IS NOT NULL")
+    int deleteSessionsByTenantId(@Param("tenantId") Short tenantId);
+
+    /**
+     * 만료된 토큰 id 를 만료 시각 순으로 조회합니다. (idx_refresh_token_expires_at 범위 조회, 분할 정리용)
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiresAt < :now ORDER BY rt.expiresAt")
+    List<Long> findExpiredTokenIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * id 목록으로 토큰들을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 사용자의 모든 refresh token을 삭제합니다.
      */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.username = :username")
+    @Query("DELETE FROM RefreshToken rt WHERE rt.username = :username AND rt.deviceId IS NULL")
     void deleteByUsername(@Param("username") String username);
 
+    /**
+     * 여러 사용자의 모든 refresh token을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.username IN :usernames AND rt.deviceId IS NULL")
+    int deleteByUsernameIn(@Param("usernames") Collection<String> usernames);
+
     /**
      * 사용자명으로 refresh token이 존재하는지 확인합니다.
      */
-    @Query("SELECT COUNT(rt) > 0 FROM RefreshToken rt WHERE rt.username = :username AND rt.isRevoked = false AND rt.expiresAt > :now")
+    @Query("SELECT COUNT(rt) > 0 FROM RefreshToken rt WHERE rt.username = :username AND rt.deviceId IS NULL AND rt.isRevoked = false AND rt.expiresAt > :now")
     boolean existsValidTokenByUsername(@Param("username") String username, @Param("now") LocalDateTime now);
 } 
\ No newline at end of file
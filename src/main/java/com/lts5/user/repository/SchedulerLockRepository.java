@@ -0,0 +1,48 @@
+package com.lts5.user.repository;
+
+import com.lts5.user.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 만료된 잠금을 가져옵니다. (1 이면 획득)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner " +
+           "WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireExpired(@Param("name") String name, @Param("owner") String owner,
+                       @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 잠금 행을 새로 만듭니다. (이미 있으면 기본키 중복으로 실패)
+     * merge 로 다른 파드의 잠금을 덮어쓰지 않도록 INSERT 를 직접 실행합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_locks (lock_name, locked_until, locked_at, locked_by) " +
+                   "VALUES (:name, :until, :now, :owner)", nativeQuery = true)
+    int insertLock(@Param("name") String name, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 소유자와 관계없이 잠금 행을 덮어씁니다. (표시용 행 갱신, 행이 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner WHERE l.name = :name")
+    int overwrite(@Param("name") String name, @Param("owner") String owner,
+                  @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 자신이 가진 잠금의 만료 시각을 변경합니다. (해제 시 사용)
+     */
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :until WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
@@ -12,17 +12,36 @@ import java.util.Optional;
 public class AuthRepositoryImpl implements AuthRepository {
     
     private final UserRepository userRepository;
+    private final UsernameNegativeCache usernameNegativeCache;
     
     @Override
     public boolean existsByUsernameAndTenantId(String username, Short tenantId) {
+        // 존재하지 않는 것이 확실한 사용자명은 DB 조회 없이 반환
+        if (usernameNegativeCache.isKnownAbsent(tenantId, username)) {
+            return false;
+        }
+        long stamp = usernameNegativeCache.lookupStamp(tenantId);
         // Hibernate Filter가 동작하지 않는 Auth 요청에서는 수동으로 테넌트 ID를 추가하여 조회
-        return userRepository.existsByUsernameAndTenantId(username, tenantId);
+        boolean exists = userRepository.existsByUsernameAndTenantId(username, tenantId);
+        if (!exists) {
+            usernameNegativeCache.recordAbsent(tenantId, username, stamp);
+        }
+        return exists;
     }
     
     @Override
     public Optional<User> findByUsernameAndTenantIdAndIsDeleteFalse(String username, Short tenantId) {
+        // 활성 사용자가 없는 것이 확실한 사용자명은 DB 조회 없이 반환
+        if (usernameNegativeCache.isKnownInactive(tenantId, username)) {
+            return Optional.empty();
+        }
+        long stamp = usernameNegativeCache.lookupStamp(tenantId);
         // Hibernate Filter가 동작하지 않는 Auth 요청에서는 수동으로 테넌트 ID를 추가하여 조회
-        return userRepository.findByUsernameAndTenantIdAndIsDeleteFalse(username, tenantId);
+        Optional<User> user = userRepository.findByUsernameAndTenantIdAndIsDeleteFalse(username, tenantId);
+        if (user.isEmpty()) {
+            usernameNegativeCache.recordInactive(tenantId, username, stamp);
+        }
+        return user;
     }
     
     @Override
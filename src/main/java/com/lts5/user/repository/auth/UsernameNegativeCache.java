@@ -0,0 +1,324 @@
+package com.lts5.user.repository.auth;
+
+import com.lts5.user.repository.user.UserRepository;
+import com.lts5.user.service.RedisHealthService;
+import com.lts5.user.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인/중복확인 경로의 사용자명 부정 캐시
+ * - 테넌트별 Bloom filter(삭제된 사용자 포함 전체 사용자명)로 존재하지 않는 사용자명을 DB 조회 없이 거부합니다.
+ * - Bloom filter 오탐이나 비활성 사용자는 짧은 TTL 의 미스 캐시로 처리합니다.
+ * - 회원가입/삭제는 Redis pub/sub 으로 다른 파드에 전파하며, Redis 가 비정상이면 캐시를 사용하지 않고
+ *   복구 후 전체를 다시 구성합니다. (주기적으로도 재구성)
+ * - 미스는 조회 시작 시점의 stamp(전역 세대 + 테넌트 epoch)가 그대로일 때만 기록해, 가입 커밋 전에 DB 를 읽은 조회가
+ *   가입 반영 이후에 미스를 남기지 않도록 합니다.
+ * - 필터 구성은 테넌트별 future 로 한 스레드만 수행하며, 구성 중인 테넌트의 다른 조회는 기다리지 않고 필터 없이 처리합니다.
+ * - users 조회는 대소문자를 구분하지 않는 콜레이션(*_ci)에서 실행되므로 필터/미스 캐시의 사용자명은 소문자로 정규화해 비교합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UsernameNegativeCache implements MessageListener {
+
+    private static final String CHANNEL = "auth:username-filter";
+    private static final String REGISTERED = "registered";
+    private static final String DELETED = "deleted";
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.username-filter.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.username-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.username-filter.miss-ttl-millis:30000}")
+    private long missTtlMillis;
+
+    @Value("${app.username-filter.miss-max-size:100000}")
+    private int missMaxSize;
+
+    // 테넌트별 필터 (구성 중이면 완료되지 않은 future)
+    private final Map<Short, CompletableFuture<BloomFilter>> filters = new ConcurrentHashMap<>();
+    // 테넌트별 가입 epoch (가입이 반영될 때마다 증가)
+    private final Map<Short, AtomicLong> tenantEpochs = new ConcurrentHashMap<>();
+    // DB 에 행이 없는 사용자명 (tenantId:username → 만료 시각)
+    private final Map<String, Long> absentMisses = new ConcurrentHashMap<>();
+    // 활성 사용자가 없는 사용자명 (tenantId:username → 만료 시각)
+    private final Map<String, Long> inactiveMisses = new ConcurrentHashMap<>();
+    // 삭제된 사용자명 (tenantId:username → 만료 시각)
+    private final Map<String, Long> deletedUsernames = new ConcurrentHashMap<>();
+
+    // 삭제/전체 재구성 시 증가시켜, 그 이전에 시작된 필터 구성/미스 기록이 저장되지 않도록 합니다.
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean missedUpdates = new AtomicBoolean(false);
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+            log.info("사용자명 부정 캐시 활성화 - 오탐률: {}, 미스 TTL: {}ms", falsePositiveRate, missTtlMillis);
+        }
+    }
+
+    /**
+     * 해당 테넌트에 사용자명 행이 확실히 없으면 true (삭제된 사용자 포함 기준)
+     */
+    public boolean isKnownAbsent(Short tenantId, String username) {
+        if (!isUsable()) {
+            return false;
+        }
+        BloomFilter filter = getFilter(tenantId);
+        if (filter != null && !filter.mightContain(normalize(username))) {
+            return true;
+        }
+        return isCached(absentMisses, key(tenantId, username));
+    }
+
+    /**
+     * 해당 테넌트에 활성 사용자가 확실히 없으면 true
+     */
+    public boolean isKnownInactive(Short tenantId, String username) {
+        if (!isUsable()) {
+            return false;
+        }
+        return isKnownAbsent(tenantId, username)
+                || isCached(inactiveMisses, key(tenantId, username))
+                || isCached(deletedUsernames, key(tenantId, username));
+    }
+
+    /**
+     * DB 조회 직전에 호출해 미스 기록 시 전달할 stamp 를 반환합니다.
+     */
+    public long lookupStamp(Short tenantId) {
+        return stamp(tenantId);
+    }
+
+    /**
+     * @param stamp DB 조회 전에 받은 lookupStamp (그 사이 가입/삭제가 반영되었으면 기록하지 않음)
+     */
+    public void recordAbsent(Short tenantId, String username, long stamp) {
+        if (isUsable() && stamp(tenantId) == stamp) {
+            record(absentMisses, key(tenantId, username));
+        }
+    }
+
+    /**
+     * @param stamp DB 조회 전에 받은 lookupStamp (그 사이 가입/삭제가 반영되었으면 기록하지 않음)
+     */
+    public void recordInactive(Short tenantId, String username, long stamp) {
+        if (isUsable() && stamp(tenantId) == stamp) {
+            record(inactiveMisses, key(tenantId, username));
+        }
+    }
+
+    /**
+     * 회원가입 반영 (저장 이후 호출)
+     */
+    public void onRegistered(Short tenantId, String username) {
+        if (!enabled) {
+            return;
+        }
+        applyRegistered(tenantId, username);
+        publish(REGISTERED + ":" + tenantId + ":" + username);
+    }
+
+    /**
+     * 사용자 삭제 반영 (트랜잭션 커밋 이후)
+     * 삭제는 soft delete 이므로 Bloom filter 는 그대로 유효하며, 해당 테넌트의 로그인 미스로만 기록합니다.
+     */
+    public void onDeleted(Short tenantId, String username) {
+        if (!enabled) {
+            return;
+        }
+        Runnable action = () -> {
+            applyDeleted(tenantId, username);
+            publish(DELETED + ":" + tenantId + ":" + username);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(REGISTERED + ":")) {
+                String[] parts = body.split(":", 3);
+                applyRegistered(Short.valueOf(parts[1]), parts[2]);
+            } else if (body.startsWith(DELETED + ":")) {
+                String[] parts = body.split(":", 3);
+                applyDeleted(Short.valueOf(parts[1]), parts[2]);
+            }
+        } catch (RuntimeException e) {
+            log.warn("사용자명 필터 메시지 처리 실패 - message: {}, error: {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적으로 전체 필터와 미스 캐시를 비워 다음 조회 시 다시 구성합니다. (누락된 전파 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.username-filter.rebuild-interval-millis:600000}")
+    public void rebuild() {
+        if (enabled) {
+            clearAll();
+        }
+    }
+
+    private void applyRegistered(Short tenantId, String username) {
+        // 구성 중인 필터는 epoch 변경으로 저장되지 않음
+        epoch(tenantId).incrementAndGet();
+        CompletableFuture<BloomFilter> future = filters.get(tenantId);
+        BloomFilter filter = future != null ? future.getNow(null) : null;
+        if (filter != null) {
+            filter.put(normalize(username));
+        }
+        String key = key(tenantId, username);
+        absentMisses.remove(key);
+        inactiveMisses.remove(key);
+        deletedUsernames.remove(key);
+    }
+
+    private void applyDeleted(Short tenantId, String username) {
+        generation.incrementAndGet();
+        record(deletedUsernames, key(tenantId, username));
+    }
+
+    /**
+     * Redis 가 정상일 때만 캐시를 사용합니다. 장애 동안 전파가 누락될 수 있으므로 복구 후 전체를 비웁니다.
+     */
+    private boolean isUsable() {
+        if (!enabled) {
+            return false;
+        }
+        if (!redisHealthService.isRedisHealthy()) {
+            missedUpdates.set(true);
+            return false;
+        }
+        if (missedUpdates.compareAndSet(true, false)) {
+            clearAll();
+        }
+        return true;
+    }
+
+    private BloomFilter getFilter(Short tenantId) {
+        CompletableFuture<BloomFilter> future = filters.get(tenantId);
+        if (future != null) {
+            // 다른 스레드가 구성 중이면 기다리지 않고 필터 없이 처리
+            return future.getNow(null);
+        }
+        CompletableFuture<BloomFilter> created = new CompletableFuture<>();
+        if (filters.putIfAbsent(tenantId, created) != null) {
+            return null;
+        }
+        try {
+            long observedStamp = stamp(tenantId);
+            List<String> usernames = userRepository.findUsernamesByTenantId(tenantId);
+            // 이후 가입분을 위한 여유를 두고 구성
+            BloomFilter filter = new BloomFilter(usernames.size() * 2L + 1000, falsePositiveRate);
+            usernames.forEach(username -> filter.put(normalize(username)));
+            if (stamp(tenantId) != observedStamp) {
+                // 구성 중 가입/삭제가 발생하면 저장하지 않고 이번 조회는 필터 없이 처리
+                filters.remove(tenantId, created);
+                created.complete(null);
+                return null;
+            }
+            created.complete(filter);
+            log.debug("사용자명 필터 구성 - tenantId: {}, 사용자 수: {}", tenantId, usernames.size());
+            return filter;
+        } catch (RuntimeException e) {
+            filters.remove(tenantId, created);
+            created.complete(null);
+            throw e;
+        }
+    }
+
+    private long stamp(Short tenantId) {
+        // 두 값 모두 증가만 하므로 어느 한쪽이 바뀌면 합도 바뀜
+        return generation.get() + epoch(tenantId).get();
+    }
+
+    private AtomicLong epoch(Short tenantId) {
+        return tenantEpochs.computeIfAbsent(tenantId, id -> new AtomicLong());
+    }
+
+    private boolean isCached(Map<String, Long> misses, String key) {
+        Long expiresAt = misses.get(key);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            misses.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void record(Map<String, Long> misses, String key) {
+        if (misses.size() >= missMaxSize) {
+            misses.clear();
+        }
+        misses.put(key, System.currentTimeMillis() + missTtlMillis);
+    }
+
+    private void publish(String message) {
+        if (!redisHealthService.isRedisHealthy()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("사용자명 필터 전파 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+        }
+    }
+
+    private void clearAll() {
+        generation.incrementAndGet();
+        filters.clear();
+        absentMisses.clear();
+        inactiveMisses.clear();
+        deletedUsernames.clear();
+    }
+
+    private static String key(Short tenantId, String username) {
+        return tenantId + ":" + normalize(username);
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,24 @@
+package com.lts5.user.repository.code;
+
+import com.lts5.user.entity.Code;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CodeRepository extends JpaRepository<Code, Long> {
+
+    // 코드 사전 구성용: 사용 중인 코드값/코드명 (같은 코드값은 먼저 등록된 코드 우선)
+    @Query("SELECT c.codeValue, c.codeName FROM Code c " +
+           "WHERE c.tenantId = :tenantId AND c.isDelete = false AND c.isUse = true " +
+           "ORDER BY c.id")
+    List<Object[]> findActiveCodeNames(@Param("tenantId") Short tenantId);
+
+    // 코드 사전 변경 확인용: 건수와 최종 수정 시각 (소프트 삭제/사용 여부 변경도 수정 시각이 바뀜)
+    @Query("SELECT new com.lts5.user.repository.code.CodeVersion(COUNT(c), MAX(c.updatedAt)) " +
+           "FROM Code c WHERE c.tenantId = :tenantId")
+    CodeVersion findCodeVersion(@Param("tenantId") Short tenantId);
+}
@@ -0,0 +1,9 @@
+package com.lts5.user.repository.code;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테넌트 코드 버전 (건수, 최종 수정 시각)
+ */
+public record CodeVersion(Long count, LocalDateTime lastUpdatedAt) {
+}
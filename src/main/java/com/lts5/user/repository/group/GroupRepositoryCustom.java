@@ -4,7 +4,13 @@ import com.lts5.user.entity.Group;
 import com.lts5.user.payload.request.group.GroupSearchRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface GroupRepositoryCustom {
     Page<Group> search(GroupSearchRequest searchRequest, Pageable pageable);
+
+    /**
+     * 전체 건수 없이 조회합니다. (size + 1 건을 읽어 다음 페이지 존재 여부만 판단)
+     */
+    Slice<Group> searchSlice(GroupSearchRequest searchRequest, Pageable pageable);
 } 
\ No newline at end of file
@@ -2,13 +2,17 @@ package com.lts5.user.repository.group;
 
 import com.lts5.user.entity.Group;
 import com.lts5.user.payload.request.group.GroupSearchRequest;
+import com.lts5.user.util.SearchCountCache;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import java.util.List;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.util.StringUtils;
 
@@ -17,32 +21,61 @@ import static com.lts5.user.entity.QGroup.group;
 public class GroupRepositoryImpl extends QuerydslRepositorySupport implements GroupRepositoryCustom {
     
     private final JPAQueryFactory queryFactory;
+    private final SearchCountCache searchCountCache;
     
-    public GroupRepositoryImpl(JPAQueryFactory queryFactory) {
+    public GroupRepositoryImpl(JPAQueryFactory queryFactory, SearchCountCache searchCountCache) {
         super(Group.class);
         this.queryFactory = queryFactory;
+        this.searchCountCache = searchCountCache;
     }
     
     @Override
     public Page<Group> search(GroupSearchRequest searchRequest, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = searchCondition(searchRequest);
 
-        builder.and(eqId(searchRequest.getId()))
-                .and(eqIsDelete(searchRequest.getIsDelete()))
-                .and(containsName(searchRequest.getName()))
-                .and(containsDescription(searchRequest.getDescription()));
+        List<Group> content = getQuerydsl()
+                .applyPagination(pageable,
+                        queryFactory.selectFrom(group)
+                                .where(builder))
+                .fetch();
 
+        // 첫 페이지가 size 보다 적거나 마지막 페이지이면 COUNT 생략
+        JPAQuery<Long> countQuery = queryFactory.select(group.count())
+                .from(group)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> searchCountCache.count(Group.class, builder, countQuery::fetchOne));
+    }
+
+    @Override
+    public Slice<Group> searchSlice(GroupSearchRequest searchRequest, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(searchRequest);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
         List<Group> content = getQuerydsl()
-                .applyPagination(pageable, 
+                .applySorting(pageable.getSort(),
                         queryFactory.selectFrom(group)
                                 .where(builder))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        long total = queryFactory.selectFrom(group)
-                .where(builder)
-                .fetchCount();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private BooleanBuilder searchCondition(GroupSearchRequest searchRequest) {
+        BooleanBuilder builder = new BooleanBuilder();
 
-        return new PageImpl<>(content, pageable, total);
+        builder.and(eqId(searchRequest.getId()))
+                .and(eqIsDelete(searchRequest.getIsDelete()))
+                .and(containsName(searchRequest.getName()))
+                .and(containsDescription(searchRequest.getDescription()));
+        return builder;
     }
 
     private BooleanExpression eqId(Long id) {
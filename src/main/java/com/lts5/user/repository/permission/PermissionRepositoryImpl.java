@@ -2,13 +2,17 @@ package com.lts5.user.repository.permission;
 
 import com.lts5.user.entity.Permission;
 import com.lts5.user.payload.request.permission.PermissionSearchRequest;
+import com.lts5.user.util.SearchCountCache;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import java.util.List;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.util.StringUtils;
 
@@ -17,33 +21,64 @@ import static com.lts5.user.entity.QPermission.permission;
 public class PermissionRepositoryImpl extends QuerydslRepositorySupport implements PermissionRepositoryCustom {
     
     private final JPAQueryFactory queryFactory;
+    private final SearchCountCache searchCountCache;
     
-    public PermissionRepositoryImpl(JPAQueryFactory queryFactory) {
+    public PermissionRepositoryImpl(JPAQueryFactory queryFactory, SearchCountCache searchCountCache) {
         super(Permission.class);
         this.queryFactory = queryFactory;
+        this.searchCountCache = searchCountCache;
     }
     
     @Override
     public Page<Permission> search(PermissionSearchRequest searchRequest, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
+        BooleanBuilder builder = searchCondition(searchRequest);
 
-        builder.and(eqId(searchRequest.getId()))
-                .and(eqIsDelete(searchRequest.getIsDelete()))
-                .and(containsCode(searchRequest.getCode()))
-                .and(containsDescription(searchRequest.getDescription()))
-                .and(containsServiceName(searchRequest.getServiceName()));
+        List<Permission> content = getQuerydsl()
+                .applyPagination(pageable,
+                        queryFactory.selectFrom(permission)
+                                .where(builder))
+                .fetch();
+
+        // 첫 페이지가 size 보다 적거나 마지막 페이지이면 COUNT 생략
+        JPAQuery<Long> countQuery = queryFactory.select(permission.count())
+                .from(permission)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> searchCountCache.count(Permission.class, builder, countQuery::fetchOne));
+    }
 
+    @Override
+    public Slice<Permission> searchSlice(PermissionSearchRequest searchRequest, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(searchRequest);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
         List<Permission> content = getQuerydsl()
-                .applyPagination(pageable, 
+                .applySorting(pageable.getSort(),
                         queryFactory.selectFrom(permission)
                                 .where(builder))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        long total = queryFactory.selectFrom(permission)
-                .where(builder)
-                .fetchCount();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private BooleanBuilder searchCondition(PermissionSearchRequest searchRequest) {
+        BooleanBuilder builder = new BooleanBuilder();
 
-        return new PageImpl<>(content, pageable, total);
+        builder.and(eqId(searchRequest.getId()))
+                // 삭제 여부를 지정하지 않으면 삭제되지 않은 데이터만 조회
+                .and(eqIsDelete(searchRequest.getIsDelete() != null ? searchRequest.getIsDelete() : false))
+                .and(containsCode(searchRequest.getCode()))
+                .and(containsDescription(searchRequest.getDescription()))
+                .and(containsServiceName(searchRequest.getServiceName()))
+                .and(eqTenantId(searchRequest.getTenantId()));
+        return builder;
     }
 
     private BooleanExpression eqId(Long id) {
@@ -54,6 +89,10 @@ public class PermissionRepositoryImpl extends QuerydslRepositorySupport implemen
         return isDelete != null ? permission.isDelete.eq(isDelete) : null;
     }
 
+    private BooleanExpression eqTenantId(Short tenantId) {
+        return tenantId != null ? permission.tenantId.eq(tenantId) : null;
+    }
+
     private BooleanExpression containsCode(String code) {
         return StringUtils.hasText(code) ? permission.code.containsIgnoreCase(code) : null;
     }
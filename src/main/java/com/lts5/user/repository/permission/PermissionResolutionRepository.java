@@ -0,0 +1,28 @@
+package com.lts5.user.repository.permission;
+
+import java.util.List;
+
+public interface PermissionResolutionRepository {
+
+    /**
+     * 사용자가 (직접 할당 또는 그룹을 통해) 해당 권한 코드를 가지고 있는지 단일 쿼리로 확인
+     * @param userId 사용자 ID
+     * @param code 권한 코드
+     * @return 권한 보유 여부
+     */
+    boolean hasPermission(Long userId, String code);
+
+    /**
+     * 사용자가 (직접 할당 또는 그룹을 통해) 가진 모든 권한 코드를 단일 쿼리로 조회
+     * @param userId 사용자 ID
+     * @return 삭제되지 않은 권한 코드 목록
+     */
+    List<String> findPermissionCodes(Long userId);
+
+    /**
+     * 테넌트의 삭제되지 않은 권한 코드를 ID 순으로 조회 (권한 클레임 비트셋의 사전)
+     * @param tenantId 테넌트 ID
+     * @return 권한 코드 목록
+     */
+    List<String> findTenantPermissionCodes(Short tenantId);
+}
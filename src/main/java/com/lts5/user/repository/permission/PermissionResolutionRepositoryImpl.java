@@ -0,0 +1,80 @@
+package com.lts5.user.repository.permission;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.lts5.user.entity.QGroupRole.groupRole;
+import static com.lts5.user.entity.QPermission.permission;
+import static com.lts5.user.entity.QRolePermission.rolePermission;
+import static com.lts5.user.entity.QUserGroup.userGroup;
+import static com.lts5.user.entity.QUserRole.userRole;
+
+@Repository
+public class PermissionResolutionRepositoryImpl implements PermissionResolutionRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public PermissionResolutionRepositoryImpl(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    @Override
+    public boolean hasPermission(Long userId, String code) {
+        // SELECT 1 ... LIMIT 1 로 첫 번째 일치 행에서 종료
+        Integer found = queryFactory
+                .selectOne()
+                .from(rolePermission)
+                .join(rolePermission.permission, permission)
+                .where(permission.code.eq(code),
+                        permission.isDelete.eq(false),
+                        grantedTo(userId))
+                .fetchFirst();
+        return found != null;
+    }
+
+    @Override
+    public List<String> findPermissionCodes(Long userId) {
+        return queryFactory
+                .select(permission.code)
+                .distinct()
+                .from(rolePermission)
+                .join(rolePermission.permission, permission)
+                .where(permission.isDelete.eq(false),
+                        grantedTo(userId))
+                .fetch();
+    }
+
+    @Override
+    public List<String> findTenantPermissionCodes(Short tenantId) {
+        return queryFactory
+                .select(permission.code)
+                .from(permission)
+                .where(permission.tenantId.eq(tenantId),
+                        permission.isDelete.eq(false))
+                .orderBy(permission.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 사용자에게 직접 할당된 역할(user_roles)과 그룹을 통해 부여된 역할(user_groups → group_roles)의 합집합 조건
+     * JPQL은 UNION을 지원하지 않으므로 두 서브쿼리를 OR로 결합합니다.
+     */
+    private BooleanExpression grantedTo(Long userId) {
+        BooleanExpression directRole = rolePermission.id.roleId.in(
+                JPAExpressions.select(userRole.id.roleId)
+                        .from(userRole)
+                        .where(userRole.id.userId.eq(userId)));
+
+        BooleanExpression groupRoleOfUser = rolePermission.id.roleId.in(
+                JPAExpressions.select(groupRole.id.roleId)
+                        .from(groupRole, userGroup)
+                        .where(groupRole.id.groupId.eq(userGroup.id.groupId),
+                                userGroup.id.userId.eq(userId)));
+
+        return directRole.or(groupRoleOfUser);
+    }
+}
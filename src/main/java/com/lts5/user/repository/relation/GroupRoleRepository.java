@@ -3,7 +3,9 @@ package com.lts5.user.repository.relation;
 import com.lts5.user.entity.GroupRole;
 import com.lts5.user.entity.ids.GroupRoleId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,10 @@ public interface GroupRoleRepository extends JpaRepository<GroupRole, GroupRoleI
     List<GroupRole> findAllByIdRoleId(Long roleId);
     void deleteByIdGroupIdAndIdRoleId(Long groupId, Long roleId);
     Optional<GroupRole> findByIdGroupIdAndIdRoleId(Long groupId, Long roleId);
+
+    /**
+     * 역할을 부여받은 그룹 ID 목록을 조회합니다.
+     */
+    @Query("SELECT gr.id.groupId FROM GroupRole gr WHERE gr.id.roleId = :roleId")
+    List<Long> findGroupIdsByRoleId(@Param("roleId") Long roleId);
 } 
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.lts5.user.repository.relation;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import com.lts5.user.entity.UserGroup;
 import com.lts5.user.entity.ids.UserGroupId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +17,10 @@ public interface UserGroupRepository extends JpaRepository<UserGroup, UserGroupI
     List<UserGroup> findAllByIdUserId(Long userId);
     List<UserGroup> findAllByIdGroupId(Long groupId);
     Optional<UserGroup> findByIdUserIdAndIdGroupId(Long userId, Long groupId);
+
+    /**
+     * 그룹들에 속한 사용자 ID 목록을 조회합니다.
+     */
+    @Query("SELECT DISTINCT ug.id.userId FROM UserGroup ug WHERE ug.id.groupId IN :groupIds")
+    List<Long> findUserIdsByGroupIds(@Param("groupIds") Collection<Long> groupIds);
 } 
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.lts5.user.repository.relation;
 import com.lts5.user.entity.UserRole;
 import com.lts5.user.entity.ids.UserRoleId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,10 @@ public interface UserRoleRepository extends JpaRepository<UserRole, UserRoleId>,
     List<UserRole> findAllByIdRoleId(Long roleId);
     Optional<UserRole> findByIdUserIdAndIdRoleId(Long userId, Long roleId);
     void deleteByIdUserIdAndIdRoleId(Long userId, Long roleId);
+
+    /**
+     * 역할을 직접 할당받은 사용자 ID 목록을 조회합니다.
+     */
+    @Query("SELECT ur.id.userId FROM UserRole ur WHERE ur.id.roleId = :roleId")
+    List<Long> findUserIdsByRoleId(@Param("roleId") Long roleId);
 } 
\ No newline at end of file
@@ -2,13 +2,17 @@ package com.lts5.user.repository.role;
 
 import com.lts5.user.entity.Role;
 import com.lts5.user.payload.request.role.RoleSearchRequest;
+import com.lts5.user.util.SearchCountCache;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import java.util.List;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.util.StringUtils;
 
@@ -17,20 +21,17 @@ import static com.lts5.user.entity.QRole.role;
 public class RoleRepositoryImpl extends QuerydslRepositorySupport implements RoleRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final SearchCountCache searchCountCache;
 
-    public RoleRepositoryImpl(JPAQueryFactory queryFactory) {
+    public RoleRepositoryImpl(JPAQueryFactory queryFactory, SearchCountCache searchCountCache) {
         super(Role.class);
         this.queryFactory = queryFactory;
+        this.searchCountCache = searchCountCache;
     }
 
     @Override
     public Page<Role> search(RoleSearchRequest searchRequest, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        builder.and(eqId(searchRequest.getId()))
-                .and(containsName(searchRequest.getName()))
-                .and(containsDescription(searchRequest.getDescription()))
-                .and(eqIsDelete(false));
+        BooleanBuilder builder = searchCondition(searchRequest);
 
         List<Role> content = getQuerydsl()
                 .applyPagination(pageable,
@@ -38,11 +39,43 @@ public class RoleRepositoryImpl extends QuerydslRepositorySupport implements Rol
                                 .where(builder))
                 .fetch();
 
-        long total = queryFactory.selectFrom(role)
-                .where(builder)
-                .fetchCount();
+        // 첫 페이지가 size 보다 적거나 마지막 페이지이면 COUNT 생략
+        JPAQuery<Long> countQuery = queryFactory.select(role.count())
+                .from(role)
+                .where(builder);
 
-        return new PageImpl<>(content, pageable, total);
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> searchCountCache.count(Role.class, builder, countQuery::fetchOne));
+    }
+
+    @Override
+    public Slice<Role> searchSlice(RoleSearchRequest searchRequest, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(searchRequest);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<Role> content = getQuerydsl()
+                .applySorting(pageable.getSort(),
+                        queryFactory.selectFrom(role)
+                                .where(builder))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private BooleanBuilder searchCondition(RoleSearchRequest searchRequest) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        builder.and(eqId(searchRequest.getId()))
+                .and(containsName(searchRequest.getName()))
+                .and(containsDescription(searchRequest.getDescription()))
+                .and(eqIsDelete(false));
+        return builder;
     }
 
     private BooleanExpression eqId(Long id) {
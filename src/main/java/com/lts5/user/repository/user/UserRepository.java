@@ -10,6 +10,7 @@ import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,7 +30,21 @@ public interface UserRepository extends
     // 사용자 이름과 테넌트 ID로 존재하는지 확인하는 메서드
     boolean existsByUsernameAndTenantId(String username, Short tenantId);
 
+    // 테넌트의 모든 사용자명 조회 (삭제된 사용자 포함, 사용자명 필터 구성용)
+    @Query("SELECT u.username FROM User u WHERE u.tenantId = :tenantId")
+    List<String> findUsernamesByTenantId(@Param("tenantId") Short tenantId);
+
+    // 다른 테넌트에 같은 사용자명이 없는 테넌트 사용자명 조회 (삭제된 사용자 포함, 사용자명 키 토큰 일괄 폐기용)
+    @Query("SELECT u.username FROM User u WHERE u.tenantId = :tenantId AND NOT EXISTS " +
+           "(SELECT 1 FROM User o WHERE o.username = u.username AND o.tenantId <> :tenantId)")
+    List<String> findUsernamesExclusiveToTenantId(@Param("tenantId") Short tenantId);
+
+    // 테넌트의 모든 사용자 ID 조회 (삭제된 사용자 포함, 세션 일괄 폐기용)
+    @Query("SELECT u.id FROM User u WHERE u.tenantId = :tenantId")
+    List<Long> findIdsByTenantId(@Param("tenantId") Short tenantId);
+
+    // 사용자명은 테넌트 안에서만 고유하므로 요청 테넌트의 사용자만 삭제
     @Modifying
-    @Query("UPDATE User u SET u.isDelete = true WHERE u.username = :username")
-    void deleteByUsername(@Param("username") String username);
+    @Query("UPDATE User u SET u.isDelete = true WHERE u.username = :username AND u.tenantId = :tenantId")
+    void deleteByUsernameAndTenantId(@Param("username") String username, @Param("tenantId") Short tenantId);
 } 
\ No newline at end of file
@@ -4,7 +4,19 @@ import com.lts5.user.entity.User;
 import com.lts5.user.payload.request.user.UserSearchRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface UserRepositoryCustom {
     Page<User> search(UserSearchRequest searchRequest, Pageable pageable);
+
+    /**
+     * 전체 건수 없이 조회합니다. (size + 1 건을 읽어 다음 페이지 존재 여부만 판단)
+     */
+    Slice<User> searchSlice(UserSearchRequest searchRequest, Pageable pageable);
+
+    /**
+     * 커서(키셋) 방식 조회: afterId 보다 작은 ID 의 사용자를 ID 역순으로 최대 size 건 조회합니다.
+     * @param afterId 이전 페이지 마지막 사용자 ID (첫 페이지는 null)
+     */
+    Slice<User> searchAfter(UserSearchRequest searchRequest, Long afterId, int size);
 } 
\ No newline at end of file
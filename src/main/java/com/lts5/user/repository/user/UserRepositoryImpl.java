@@ -1,31 +1,39 @@
 package com.lts5.user.repository.user;
 
-import com.lts5.user.entity.QCode;
 import com.lts5.user.entity.User;
 import com.lts5.user.payload.request.user.UserSearchRequest;
+import com.lts5.user.util.SearchCountCache;
+import com.primes.library.filter.TenantContext;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.lts5.user.entity.QUser.user;
 
 public class UserRepositoryImpl extends QuerydslRepositorySupport implements UserRepositoryCustom {
     
     private final JPAQueryFactory queryFactory;
+    private final SearchCountCache searchCountCache;
+    private final UserSearchIndex userSearchIndex;
     
-    public UserRepositoryImpl(JPAQueryFactory queryFactory) {
+    public UserRepositoryImpl(JPAQueryFactory queryFactory, SearchCountCache searchCountCache,
+                              UserSearchIndex userSearchIndex) {
         super(User.class);
         this.queryFactory = queryFactory;
+        this.searchCountCache = searchCountCache;
+        this.userSearchIndex = userSearchIndex;
     }
     
     @Override
@@ -33,6 +41,59 @@ public class UserRepositoryImpl extends QuerydslRepositorySupport implements Use
         // 디버깅을 위한 로그 추가
         System.out.println("UserRepositoryImpl.search() - 검색 시작");
         
+        BooleanBuilder condition = baseCondition(searchRequest);
+        BooleanBuilder builder = new BooleanBuilder(condition).and(inIndexedCandidates(searchRequest));
+
+        List<User> users = fetchUsers(builder, pageable.getOffset(), pageable.getPageSize());
+
+        // 첫 페이지가 size 보다 적거나 마지막 페이지이면 COUNT 생략
+        JPAQuery<Long> countQuery = queryFactory
+                .select(user.count())
+                .from(user)
+                .where(builder);
+
+        // 캐시 키는 trigram 후보 ID 목록(최대 수천 개) 없이 검색 조건만으로 구성
+        // (후보 조건은 색인이 최신으로 확인된 경우에만 붙고 LIKE 결과를 빠뜨리지 않으므로 건수는 같음)
+        return PageableExecutionUtils.getPage(users, pageable,
+                () -> searchCountCache.count(User.class, condition, countQuery::fetchOne));
+    }
+
+    @Override
+    public Slice<User> searchSlice(UserSearchRequest searchRequest, Pageable pageable) {
+        BooleanBuilder builder = searchCondition(searchRequest);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<User> users = fetchUsers(builder, pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = users.size() > pageable.getPageSize();
+        if (hasNext) {
+            users = users.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(users, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<User> searchAfter(UserSearchRequest searchRequest, Long afterId, int size) {
+        // OFFSET 대신 마지막으로 받은 ID 보다 작은 행부터 읽어 페이지 깊이와 관계없이 같은 비용으로 조회
+        BooleanBuilder builder = searchCondition(searchRequest)
+                .and(afterId != null ? user.id.lt(afterId) : null);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (COUNT 쿼리 없음)
+        List<User> users = fetchUsers(builder, 0, size + 1);
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+        return new SliceImpl<>(users, PageRequest.of(0, size), hasNext);
+    }
+
+    private BooleanBuilder searchCondition(UserSearchRequest searchRequest) {
+        return baseCondition(searchRequest).and(inIndexedCandidates(searchRequest));
+    }
+
+    /**
+     * 검색 요청의 조건 (trigram 후보 조건 제외)
+     */
+    private BooleanBuilder baseCondition(UserSearchRequest searchRequest) {
         BooleanBuilder builder = new BooleanBuilder();
 
         builder.and(eqId(searchRequest.getId()))
@@ -52,51 +113,33 @@ public class UserRepositoryImpl extends QuerydslRepositorySupport implements Use
                 .and(eqOutDate(searchRequest.getOutDate()))
                 .and(eqIsTenantAdmin(searchRequest.getIsTenantAdmin()))
                 .and(eqAccountYear(searchRequest.getAccountYear()));
+        return builder;
+    }
 
-        // JOIN으로 codeName 포함하여 조회 (별칭 사용)
-        QCode code1 = new QCode("code1");
-        QCode code2 = new QCode("code2");
-        QCode code3 = new QCode("code3");
-
-        List<Tuple> results = queryFactory
-                .select(user, code1.codeName, code2.codeName, code3.codeName)
-                .from(user)
-                .leftJoin(code1).on(code1.codeValue.eq(user.department)
-                        .and(code1.isDelete.eq(false))
-                        .and(code1.isUse.eq(true)))
-                .leftJoin(code2).on(code2.codeValue.eq(user.partLevel)
-                        .and(code2.isDelete.eq(false))
-                        .and(code2.isUse.eq(true)))
-                .leftJoin(code3).on(code3.codeValue.eq(user.partPosition)
-                        .and(code3.isDelete.eq(false))
-                        .and(code3.isUse.eq(true)))
+    /**
+     * 사용자를 ID 역순으로 조회합니다. (코드명 변환은 UserService 에서 CodeDictionary 로 처리)
+     */
+    private List<User> fetchUsers(BooleanBuilder builder, long offset, int limit) {
+        return queryFactory
+                .selectFrom(user)
                 .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .offset(offset)
+                .limit(limit)
                 .orderBy(user.id.desc())
                 .fetch();
+    }
 
-        long total = queryFactory
-                .selectFrom(user)
-                .where(builder)
-                .fetchCount();
-
-        // Tuple을 User로 변환하여 반환
-        List<User> users = results.stream()
-                .map(tuple -> {
-                    User userResult = tuple.get(user);
-                    String departmentName = tuple.get(code1.codeName);
-                    String partLevelName = tuple.get(code2.codeName);
-                    String partPositionName = tuple.get(code3.codeName);
-
-                    // convertToCodeName 메서드 사용하여 모든 codeName 적용
-                    userResult.convertToCodeName(departmentName, partLevelName, partPositionName);
-
-                    return userResult;
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(users, pageable, total);
+    /**
+     * 부분 일치 조건을 trigram 색인 후보로 좁힙니다. (LIKE 조건은 그대로 함께 적용)
+     * 색인이 아직 보지 못한 사용자(최대 색인 ID 보다 큰 ID)는 후보와 관계없이 포함합니다.
+     */
+    private BooleanExpression inIndexedCandidates(UserSearchRequest searchRequest) {
+        UserSearchIndex.Candidates candidates = userSearchIndex.findCandidates(TenantContext.getTenantId(), searchRequest);
+        if (candidates == null) {
+            return null;
+        }
+        BooleanExpression unindexed = user.id.gt(candidates.maxIndexedId());
+        return candidates.ids().isEmpty() ? unindexed : user.id.in(candidates.ids()).or(unindexed);
     }
 
     private BooleanExpression eqId(Long id) {
@@ -0,0 +1,583 @@
+package com.lts5.user.repository.user;
+
+import com.lts5.user.payload.request.user.UserSearchRequest;
+import com.lts5.user.service.RedisHealthService;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.lts5.user.entity.QUser.user;
+
+/**
+ * 사용자 검색 부분 일치 필터용 테넌트별 trigram 역색인
+ * - LIKE '%x%' 는 인덱스를 쓸 수 없으므로, 3글자 이상인 부분 일치 조건을 trigram 교집합으로 후보 사용자 ID 를 구한 뒤
+ *   user_id IN (후보) 와 기존 LIKE 조건을 함께 적용합니다. (색인은 후보를 줄이는 용도이며 최종 판정은 항상 DB)
+ * - 색인은 추가만 하므로 수정 전 값이 남으면 후보가 늘어날 뿐이지만, 아직 반영하지 못한 가입/수정은 후보에서 빠질 수 있습니다.
+ *   그래서 색인이 완전하다고 확인될 때만 사용합니다.
+ *   - 가입/수정은 커밋 후 테넌트 버전(Redis INCR)을 올리고 버전과 함께 전파합니다. 조회 시 Redis 버전까지의 변경을 모두 반영한 경우에만
+ *     색인을 사용하고, 그렇지 않으면 LIKE 로 조회합니다. (pub/sub 은 최대 한 번 전달이므로 max-lag-millis 동안 따라잡지 못하면 색인을 다시 구성)
+ *   - 색인이 본 가장 큰 ID 보다 큰 사용자는 후보와 관계없이 LIKE 로 판정합니다. (id IN (후보) OR id > 최대 색인 ID)
+ *   - LIKE 는 *_ci 콜레이션에서 악센트/전각 문자 등을 같은 글자로 비교하므로, ASCII·한글 음절·한자 외의 문자가 있는 사용자는
+ *     항상 후보에 포함하고, 그런 문자가 있는 검색어는 색인 없이 조회합니다.
+ * - 테넌트 색인은 처음 조회할 때 백그라운드로 구성하며, 구성 전이거나 후보가 max-candidates 를 넘으면 기존 LIKE 조회를 사용합니다.
+ * - Redis 가 비정상이면 색인을 사용하지 않고 복구 후 다시 구성합니다.
+ * - 메모리 사용량이 사용자 수 × 필드 길이에 비례하므로 app.user-search-index.enabled 로 선택 적용합니다.
+ */
+@Slf4j
+@Component
+public class UserSearchIndex implements MessageListener {
+
+    private static final String CHANNEL = "user:search-index";
+    private static final String VERSION_KEY_PREFIX = "user:search-index:ver:";
+    private static final int GRAM = 3;
+    // 색인 필드 순서 (trigram 키의 첫 글자로 필드를 구분)
+    private static final int USERNAME = 0;
+    private static final int NAME = 1;
+    private static final int MOBILE_TEL = 2;
+    private static final int HOME_TEL = 3;
+    private static final int ZIPCODE = 4;
+    private static final int ADDRESS_MST = 5;
+    private static final int ADDRESS_DTL = 6;
+
+    private final JPAQueryFactory queryFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.user-search-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.user-search-index.max-candidates:5000}")
+    private int maxCandidates;
+
+    @Value("${app.user-search-index.max-lag-millis:10000}")
+    private long maxLagMillis;
+
+    private final Map<Short, TenantIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicBoolean missedUpdates = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserSearchIndex(JPAQueryFactory queryFactory,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisHealthService redisHealthService,
+                           RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.queryFactory = queryFactory;
+        this.redisTemplate = redisTemplate;
+        this.redisHealthService = redisHealthService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+            log.info("사용자 검색 색인 활성화 - 최대 후보 수: {}", maxCandidates);
+        }
+    }
+
+    /**
+     * 부분 일치 조건을 모두 만족할 수 있는 사용자 ID 후보를 반환합니다.
+     * @return 후보 (후보 ID 와 그보다 큰 ID 의 사용자는 LIKE 로 판정), 색인이 완전하다고 확인할 수 없으면 null
+     */
+    public Candidates findCandidates(Short tenantId, UserSearchRequest searchRequest) {
+        if (tenantId == null || !isUsable()) {
+            return null;
+        }
+        String[] terms = {
+                searchRequest.getUsername(), searchRequest.getName(), searchRequest.getMobileTel(),
+                searchRequest.getHomeTel(), searchRequest.getZipcode(), searchRequest.getAddressMst(),
+                searchRequest.getAddressDtl()
+        };
+        Set<String> keys = new LinkedHashSet<>();
+        for (int field = 0; field < terms.length; field++) {
+            // UserRepositoryImpl 과 같이 공백뿐인 조건은 무시
+            if (!StringUtils.hasText(terms[field])) {
+                continue;
+            }
+            if (!isCollationSafe(terms[field])) {
+                // 콜레이션 비교 결과를 색인으로 재현할 수 없는 검색어
+                return null;
+            }
+            addKeys(keys, field, terms[field]);
+        }
+        if (keys.isEmpty()) {
+            // 3글자 이상인 부분 일치 조건이 없으면 색인으로 줄일 수 없음
+            return null;
+        }
+
+        TenantIndex index = getIndex(tenantId);
+        if (index == null || !isCurrent(tenantId, index)) {
+            return null;
+        }
+        return index.candidates(keys, maxCandidates);
+    }
+
+    /**
+     * 가입/수정된 사용자를 색인에 반영합니다. (트랜잭션 커밋 이후, 다른 파드로 전파)
+     */
+    public void onSaved(Short tenantId, Long userId) {
+        if (!enabled || tenantId == null || userId == null) {
+            return;
+        }
+        Runnable action = () -> {
+            Long version = incrementVersion(tenantId);
+            if (version == null) {
+                // 버전을 올리지 못하면 다른 파드가 누락을 알 수 없으므로 복구 후 전체 재구성
+                missedUpdates.set(true);
+                return;
+            }
+            applySaved(tenantId, userId, version);
+            publish(tenantId + ":" + userId + ":" + version);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":", 3);
+            applySaved(Short.valueOf(parts[0]), Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            log.warn("사용자 검색 색인 메시지 처리 실패 - message: {}, error: {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적으로 전체 색인을 비워 다음 조회 시 다시 구성합니다. (수정 전 값 정리, 누락된 전파 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.user-search-index.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        if (enabled) {
+            indexes.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void applySaved(Short tenantId, Long userId, long version) {
+        TenantIndex index = indexes.get(tenantId);
+        if (index == null) {
+            // 아직 구성하지 않은 테넌트는 구성 시 DB 에서 읽으므로 반영할 필요 없음
+            return;
+        }
+        if (!index.deferIfBuilding(userId, version) && reindex(index, List.of(userId))) {
+            index.markApplied(version);
+        }
+    }
+
+    /**
+     * 색인이 Redis 의 테넌트 버전까지 모든 변경을 반영했는지 확인합니다.
+     * max-lag-millis 동안 따라잡지 못하면 (전파 누락) 색인을 버려 다시 구성합니다.
+     */
+    private boolean isCurrent(Short tenantId, TenantIndex index) {
+        Long version = readVersion(tenantId);
+        if (version == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (index.isCurrent(version, now)) {
+            return true;
+        }
+        if (index.laggingSince() > 0 && now - index.laggingSince() > maxLagMillis) {
+            log.info("사용자 검색 색인 변경 누락 - 재구성합니다. tenantId: {}", tenantId);
+            indexes.remove(tenantId, index);
+        }
+        return false;
+    }
+
+    private Long readVersion(Short tenantId) {
+        try {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + tenantId);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 버전 조회 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+            return null;
+        }
+    }
+
+    private Long incrementVersion(Short tenantId) {
+        if (!redisHealthService.isRedisHealthy()) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + tenantId);
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 버전 증가 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+            return null;
+        }
+    }
+
+    private TenantIndex getIndex(Short tenantId) {
+        TenantIndex index = indexes.get(tenantId);
+        if (index == null) {
+            TenantIndex created = new TenantIndex();
+            index = indexes.putIfAbsent(tenantId, created);
+            if (index == null) {
+                executor.execute(() -> build(tenantId, created));
+                return null;
+            }
+        }
+        return index.isReady() ? index : null;
+    }
+
+    private void build(Short tenantId, TenantIndex index) {
+        try {
+            long started = System.currentTimeMillis();
+            // 버전을 먼저 읽으므로 이 버전까지의 변경은 (커밋 후 증가) 아래 조회 결과에 포함됨
+            Long version = readVersion(tenantId);
+            if (version == null) {
+                indexes.remove(tenantId, index);
+                return;
+            }
+            index.markBuiltAt(version);
+            List<Tuple> rows = queryFactory
+                    .select(user.id, user.username, user.name, user.mobileTel, user.homeTel,
+                            user.zipcode, user.addressMst, user.addressDtl)
+                    .from(user)
+                    .where(user.tenantId.eq(tenantId))
+                    .orderBy(user.id.asc())
+                    .fetch();
+            rows.forEach(index::add);
+            // 구성 중 가입/수정된 사용자를 다시 읽어 반영하고, 더 남은 변경이 없을 때 사용 가능 상태로 전환
+            List<Long> pending;
+            while (!(pending = index.drainPending()).isEmpty()) {
+                if (!reindex(index, pending)) {
+                    throw new IllegalStateException("구성 중 변경 반영 실패");
+                }
+            }
+            log.info("사용자 검색 색인 구성 - tenantId: {}, 사용자 수: {}, 소요: {}ms",
+                    tenantId, rows.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 구성 실패 - tenantId: {}, error: {}", tenantId, e.getMessage());
+            indexes.remove(tenantId, index);
+        }
+    }
+
+    /**
+     * @return 반영 성공 여부
+     */
+    private boolean reindex(TenantIndex index, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return true;
+        }
+        try {
+            queryFactory
+                    .select(user.id, user.username, user.name, user.mobileTel, user.homeTel,
+                            user.zipcode, user.addressMst, user.addressDtl)
+                    .from(user)
+                    .where(user.id.in(userIds))
+                    .fetch()
+                    .forEach(index::add);
+            return true;
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 반영 실패 - userIds: {}, error: {}", userIds, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Redis 가 정상일 때만 색인을 사용합니다. 장애 동안 전파가 누락될 수 있으므로 복구 후 전체를 비웁니다.
+     */
+    private boolean isUsable() {
+        if (!enabled) {
+            return false;
+        }
+        if (!redisHealthService.isRedisHealthy()) {
+            missedUpdates.set(true);
+            return false;
+        }
+        if (missedUpdates.compareAndSet(true, false)) {
+            indexes.clear();
+        }
+        return true;
+    }
+
+    private void publish(String message) {
+        if (!redisHealthService.isRedisHealthy()) {
+            missedUpdates.set(true);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("사용자 검색 색인 전파 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+        }
+    }
+
+    /**
+     * ASCII, 한글 음절, CJK 통합 한자만으로 이루어져 *_ci 콜레이션 비교가 소문자 비교와 같은지 여부
+     */
+    private static boolean isCollationSafe(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80 && !(c >= 0xAC00 && c <= 0xD7A3) && !(c >= 0x4E00 && c <= 0x9FFF)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addKeys(Set<String> keys, int field, String value) {
+        if (value == null || value.length() < GRAM) {
+            return;
+        }
+        // containsIgnoreCase(LOWER ... LIKE) 와 같이 소문자로 비교
+        String normalized = value.toLowerCase(Locale.ROOT);
+        char prefix = (char) ('0' + field);
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            keys.add(prefix + normalized.substring(i, i + GRAM));
+        }
+    }
+
+    /**
+     * 테넌트 색인: 사용자 ID 에 부여한 순번(ordinal)을 trigram 별 정렬된 int 배열로 보관합니다. 모든 접근은 this 로 동기화
+     */
+    private static final class TenantIndex {
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<Long> userIds = new ArrayList<>();
+        private final Map<String, Postings> postings = new HashMap<>();
+        // 콜레이션 비교를 재현할 수 없는 문자가 있어 항상 후보에 넣는 사용자
+        private final Postings unsafe = new Postings();
+        private long maxUserId = Long.MIN_VALUE;
+        // 구성 중 변경된 사용자 (구성 완료 후 다시 읽어 반영), 구성이 끝나면 null
+        private Set<Long> pendingUserIds = new LinkedHashSet<>();
+        // 구성 중 전달된 변경 버전 (구성 완료 시 반영된 것으로 처리)
+        private final Set<Long> pendingVersions = new HashSet<>();
+        // 빠짐없이 반영한 마지막 버전 (구성 시작 전이면 -1)과 그 이후에 반영한 버전
+        private long appliedVersion = -1;
+        private final Set<Long> aheadVersions = new HashSet<>();
+        // Redis 버전보다 뒤처진 것을 처음 확인한 시각 (따라잡으면 0)
+        private long laggingSince;
+
+        synchronized boolean isReady() {
+            return pendingUserIds == null;
+        }
+
+        synchronized boolean deferIfBuilding(Long userId, long version) {
+            if (pendingUserIds == null) {
+                return false;
+            }
+            pendingUserIds.add(userId);
+            pendingVersions.add(version);
+            return true;
+        }
+
+        synchronized List<Long> drainPending() {
+            if (pendingUserIds.isEmpty()) {
+                pendingUserIds = null;
+                pendingVersions.forEach(this::markApplied);
+                pendingVersions.clear();
+                return List.of();
+            }
+            List<Long> pending = new ArrayList<>(pendingUserIds);
+            pendingUserIds.clear();
+            return pending;
+        }
+
+        synchronized void markBuiltAt(long version) {
+            appliedVersion = version;
+            advance();
+        }
+
+        synchronized void markApplied(long version) {
+            if (appliedVersion < 0 || version > appliedVersion) {
+                aheadVersions.add(version);
+                advance();
+            }
+        }
+
+        synchronized boolean isCurrent(long version, long now) {
+            if (appliedVersion >= version) {
+                laggingSince = 0;
+                return true;
+            }
+            if (laggingSince == 0) {
+                laggingSince = now;
+            }
+            return false;
+        }
+
+        synchronized long laggingSince() {
+            return laggingSince;
+        }
+
+        private void advance() {
+            if (appliedVersion < 0) {
+                return;
+            }
+            aheadVersions.removeIf(version -> version <= appliedVersion);
+            while (aheadVersions.remove(appliedVersion + 1)) {
+                appliedVersion++;
+            }
+        }
+
+        void add(Tuple row) {
+            Set<String> keys = new LinkedHashSet<>();
+            addKeys(keys, USERNAME, row.get(user.username));
+            addKeys(keys, NAME, row.get(user.name));
+            addKeys(keys, MOBILE_TEL, row.get(user.mobileTel));
+            addKeys(keys, HOME_TEL, row.get(user.homeTel));
+            addKeys(keys, ZIPCODE, row.get(user.zipcode));
+            addKeys(keys, ADDRESS_MST, row.get(user.addressMst));
+            addKeys(keys, ADDRESS_DTL, row.get(user.addressDtl));
+            boolean collationSafe = isCollationSafe(row.get(user.username)) && isCollationSafe(row.get(user.name))
+                    && isCollationSafe(row.get(user.mobileTel)) && isCollationSafe(row.get(user.homeTel))
+                    && isCollationSafe(row.get(user.zipcode)) && isCollationSafe(row.get(user.addressMst))
+                    && isCollationSafe(row.get(user.addressDtl));
+
+            synchronized (this) {
+                Long userId = row.get(user.id);
+                Integer ordinal = ordinals.get(userId);
+                if (ordinal == null) {
+                    ordinal = userIds.size();
+                    ordinals.put(userId, ordinal);
+                    userIds.add(userId);
+                    maxUserId = Math.max(maxUserId, userId);
+                }
+                for (String key : keys) {
+                    postings.computeIfAbsent(key, k -> new Postings()).add(ordinal);
+                }
+                if (!collationSafe) {
+                    unsafe.add(ordinal);
+                }
+            }
+        }
+
+        synchronized Candidates candidates(Set<String> keys, int maxCandidates) {
+            List<Postings> lists = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                Postings list = postings.get(key);
+                if (list == null) {
+                    lists = null;
+                    break;
+                }
+                lists.add(list);
+            }
+            int[] result = new int[0];
+            int count = 0;
+            if (lists != null) {
+                // 가장 짧은 목록부터 교집합
+                lists.sort(Comparator.comparingInt(list -> list.size));
+                result = Arrays.copyOf(lists.get(0).ordinals, lists.get(0).size);
+                count = result.length;
+                for (int i = 1; i < lists.size() && count > 0; i++) {
+                    Postings other = lists.get(i);
+                    int kept = 0;
+                    for (int j = 0; j < count; j++) {
+                        if (other.contains(result[j])) {
+                            result[kept++] = result[j];
+                        }
+                    }
+                    count = kept;
+                }
+            }
+            if (count + unsafe.size > maxCandidates) {
+                // 선택도가 낮아 IN 목록이 커지면 기존 LIKE 조회가 더 저렴
+                return null;
+            }
+            Set<Long> ids = new LinkedHashSet<>(count + unsafe.size);
+            for (int j = 0; j < count; j++) {
+                ids.add(userIds.get(result[j]));
+            }
+            for (int j = 0; j < unsafe.size; j++) {
+                ids.add(userIds.get(unsafe.ordinals[j]));
+            }
+            return new Candidates(List.copyOf(ids), maxUserId);
+        }
+    }
+
+    /**
+     * @param ids 후보 사용자 ID (빈 목록이면 색인에 일치하는 사용자 없음)
+     * @param maxIndexedId 색인이 본 가장 큰 사용자 ID (이보다 큰 사용자는 색인과 관계없이 LIKE 로 판정)
+     */
+    public record Candidates(List<Long> ids, long maxIndexedId) {
+    }
+
+    /**
+     * 정렬된 ordinal 목록 (중복 없음)
+     */
+    private static final class Postings {
+
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            // 새 사용자는 가장 큰 ordinal 이므로 대부분 끝에 추가됨
+            if (size > 0 && ordinals[size - 1] >= ordinal) {
+                int position = Arrays.binarySearch(ordinals, 0, size, ordinal);
+                if (position >= 0) {
+                    return;
+                }
+                insertAt(-position - 1, ordinal);
+                return;
+            }
+            insertAt(size, ordinal);
+        }
+
+        boolean contains(int ordinal) {
+            return Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0;
+        }
+
+        private void insertAt(int position, int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, position, ordinals, position + 1, size - position);
+            ordinals[position] = ordinal;
+            size++;
+        }
+    }
+}
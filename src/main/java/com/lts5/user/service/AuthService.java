@@ -1,24 +1,21 @@
 package com.lts5.user.service;
 
 import com.lts5.user.dto.UserDto;
-import com.lts5.user.entity.GroupRole;
-import com.lts5.user.entity.Permission;
-import com.lts5.user.entity.RolePermission;
-import com.lts5.user.entity.UserGroup;
 import com.lts5.user.entity.User;
-import com.lts5.user.entity.UserRole;
 import com.lts5.user.payload.request.auth.LoginRequest;
+import com.lts5.user.payload.request.auth.PermissionCheckBatchRequest;
 import com.lts5.user.payload.response.LoginResponse;
+import com.lts5.user.payload.response.PermissionDictionaryResponse;
+import com.lts5.user.payload.response.SessionResponse;
+import com.lts5.user.payload.response.SessionRevokeResponse;
 import com.lts5.user.payload.response.TokenRefreshResponse;
 import com.lts5.user.payload.response.WebLoginResponse;
 import com.lts5.user.repository.user.UserRepository;
 import com.lts5.user.repository.auth.AuthRepository;
-import com.lts5.user.repository.relation.UserGroupRepository;
-import com.lts5.user.repository.relation.UserRoleRepository;
-import com.lts5.user.repository.relation.RolePermissionRepository;
-import com.lts5.user.repository.relation.GroupRoleRepository;
-import com.lts5.user.repository.permission.PermissionRepository;
+import com.lts5.user.repository.auth.UsernameNegativeCache;
+import com.lts5.user.repository.user.UserSearchIndex;
 import com.lts5.user.util.JwtUtil;
+import com.lts5.user.util.VerifiedTokenCache;
 import com.primes.library.common.codes.ErrorCode;
 import com.primes.library.common.exceptions.DuplicatedUserException;
 import com.primes.library.common.exceptions.EntityNotFoundException;
@@ -30,27 +27,44 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class AuthService {
     private final AuthRepository authRepository;
+    private final UsernameNegativeCache usernameNegativeCache;
+    private final UserSearchIndex userSearchIndex;
+    private final AutocompleteService autocompleteService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenStorageService tokenStorageService;
-    private final JwtUtil jwtUtil;
-    private final UserGroupRepository userGroupRepository;
-    private final UserRoleRepository userRoleRepository;
-    private final RolePermissionRepository rolePermissionRepository;
-    private final GroupRoleRepository groupRoleRepository;
-    private final PermissionRepository permissionRepository;
+    private final PasswordVerificationService passwordVerificationService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PermissionIndexService permissionIndexService;
+    private final PermissionClaimService permissionClaimService;
+    private final SessionStorageService sessionStorageService;
+
+    @Value("${app.password.upgrade-on-login:false}")
+    private boolean upgradePasswordOnLogin;
+
+    // 토큰 클레임 (Refresh Token 은 기기별 세션에서만 tenant_id, user_id, sid 포함)
+    private static final String TENANT_ID_CLAIM = "tenant_id";
+    private static final String USER_ID_CLAIM = "user_id";
+    private static final String SESSION_ID_CLAIM = "sid";
 
     public void register(UserDto dto) {
         // 사용자 조회 (테넌트 ID와 함께 중복 체크) - AuthRepository 사용
@@ -60,6 +74,12 @@ public class AuthService {
         dto.setPassword(passwordEncoder.encode(dto.getPassword()));
         User user = dto.toEntity();
         authRepository.save(user);
+        // 로그인/중복확인 부정 캐시에 신규 사용자명 반영 (다른 파드로 전파)
+        usernameNegativeCache.onRegistered(user.getTenantId(), user.getUsername());
+        // 사용자 검색 색인 반영 (다른 파드로 전파)
+        userSearchIndex.onSaved(user.getTenantId(), user.getId());
+        // 자동완성 색인 반영 (다른 파드로 전파)
+        autocompleteService.onChanged(AutocompleteService.Target.USER, List.of(user.getId()));
     }
 
     public LoginResponse login(LoginRequest loginRequest, HttpServletResponse response) {
@@ -67,24 +87,18 @@ public class AuthService {
         User user = authRepository.findByUsernameAndTenantIdAndIsDeleteFalse(loginRequest.getUsername(), loginRequest.getTenantId())
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
 
-        // 비밀번호 확인
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        // 비밀번호 확인 (전용 실행기에서 검증, 대기열 초과 시 503)
+        if (!passwordVerificationService.matches(loginRequest.getPassword(), user.getPassword())) {
             throw new IllegalPasswordException(ErrorCode.ILLEGAL_PASSWORD_EXCEPTION, "틀린 비밀번호입니다.");
         }
+        upgradePasswordIfNeeded(user, loginRequest.getPassword());
 
         // 추가 정보로 Access Token 생성
-        Map<String, Object> claims = Map.of(
-                "tenant_id", user.getTenantId(),
-                "username", user.getUsername(),
-                "user_id", user.getId()
-        );
+        Map<String, Object> claims = buildAccessTokenClaims(user);
         String accessToken = JwtUtil.generateAccessToken(user.getUsername(), claims);
         
-        // Refresh Token 생성
-        String refreshToken = JwtUtil.generateRefreshToken(user.getUsername());
-        
-        // Refresh Token을 저장소에 저장
-        tokenStorageService.saveRefreshToken(user.getUsername(), refreshToken, JwtUtil.getRefreshTokenExpirationTime());
+        // Refresh Token 생성 및 저장 (기기 ID 가 있으면 기기별 세션)
+        String refreshToken = issueRefreshToken(user, loginRequest.getDeviceId());
         
         return LoginResponse.builder()
                 .accessToken(accessToken)
@@ -109,27 +123,21 @@ public class AuthService {
 
             log.info("사용자 조회 성공 - userId: {}, username: {}, tenantId: {}", user.getId(), user.getUsername(), user.getTenantId());
 
-            // 비밀번호 확인
-            if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            // 비밀번호 확인 (전용 실행기에서 검증, 대기열 초과 시 503)
+            if (!passwordVerificationService.matches(loginRequest.getPassword(), user.getPassword())) {
                 log.warn("비밀번호 불일치 - username: {}, tenantId: {}", loginRequest.getUsername(), loginRequest.getTenantId());
                 throw new IllegalPasswordException(ErrorCode.ILLEGAL_PASSWORD_EXCEPTION, "틀린 비밀번호입니다.");
             }
             
             log.info("비밀번호 확인 성공 - username: {}", loginRequest.getUsername());
+            upgradePasswordIfNeeded(user, loginRequest.getPassword());
 
         // 추가 정보로 Access Token 생성
-        Map<String, Object> claims = Map.of(
-                "tenant_id", user.getTenantId(),
-                "username", user.getUsername(),
-                "user_id", user.getId()
-        );
+        Map<String, Object> claims = buildAccessTokenClaims(user);
         String accessToken = JwtUtil.generateAccessToken(user.getUsername(), claims);
         
-        // Refresh Token 생성
-        String refreshToken = JwtUtil.generateRefreshToken(user.getUsername());
-        
-        // Refresh Token을 저장소에 저장
-        tokenStorageService.saveRefreshToken(user.getUsername(), refreshToken, JwtUtil.getRefreshTokenExpirationTime());
+        // Refresh Token 생성 및 저장 (기기 ID 가 있으면 기기별 세션)
+        String refreshToken = issueRefreshToken(user, loginRequest.getDeviceId());
         
         // Origin 헤더에서 호스트 추출하여 해당 도메인에 맞는 쿠키 설정
         String origin = request.getHeader("Origin");
@@ -168,6 +176,24 @@ public class AuthService {
         }
     }
 
+    /**
+     * 저장된 해시의 cost/알고리즘이 현재 설정보다 오래된 경우 로그인 성공 시점에 재해시합니다.
+     * 로그인마다 BCrypt 해시와 쓰기가 한 번 더 발생하므로 app.password.upgrade-on-login 이 켜진 경우에만 수행합니다.
+     * 재해시 실패는 로그인 결과에 영향을 주지 않습니다.
+     */
+    private void upgradePasswordIfNeeded(User user, String rawPassword) {
+        if (!upgradePasswordOnLogin || !passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setNewPassword(passwordVerificationService.encode(rawPassword));
+            authRepository.save(user);
+            log.info("비밀번호 해시 갱신 - userId: {}", user.getId());
+        } catch (Exception e) {
+            log.warn("비밀번호 해시 갱신 실패 - userId: {}, error: {}", user.getId(), e.getMessage());
+        }
+    }
+
     public boolean checkUsername(String username, Short tenantId) {
         return authRepository.existsByUsernameAndTenantId(username, tenantId);
     }
@@ -188,30 +214,11 @@ public class AuthService {
             throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "Refresh token이 필요합니다.");
         }
 
-        // Refresh token에서 username 추출
-        String username = jwtUtil.extractUsername(refreshToken);
-        
-        // Refresh token이 만료되었는지 확인
-        if (jwtUtil.isTokenExpired(refreshToken)) {
-            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "token_expired");
-        }
-
-        // 저장된 refresh token과 일치하는지 확인
-        String storedRefreshToken = tokenStorageService.getRefreshToken(username);
-        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
-            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "유효하지 않은 refresh token입니다.");
-        }
-
-        // 사용자 정보 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
+        // Refresh token 검증 (서명/만료/저장소 일치) 및 사용자 조회
+        User user = verifyRefreshToken(refreshToken);
 
         // 새로운 access token 생성
-        Map<String, Object> claims = Map.of(
-                "tenant_id", user.getTenantId(),
-                "username", user.getUsername(),
-                "user_id", user.getId()
-        );
+        Map<String, Object> claims = buildAccessTokenClaims(user);
         String newAccessToken = JwtUtil.generateAccessToken(user.getUsername(), claims);
 
         return TokenRefreshResponse.builder()
@@ -226,15 +233,8 @@ public class AuthService {
             throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "Refresh token이 필요합니다.");
         }
 
-        // Refresh token에서 username 추출
-        String username = jwtUtil.extractUsername(refreshToken);
-        
-        // 저장된 refresh token과 일치하는지 확인
-        String storedRefreshToken = tokenStorageService.getRefreshToken(username);
-        if (storedRefreshToken != null && storedRefreshToken.equals(refreshToken)) {
-            // Refresh token 삭제
-            tokenStorageService.deleteRefreshToken(username);
-        }
+        // 저장된 refresh token과 일치하면 삭제 (기기별 세션은 해당 기기만)
+        revokeRefreshToken(refreshToken);
     }
 
     public void logoutWithCookie(HttpServletRequest request, HttpServletResponse response) {
@@ -253,11 +253,7 @@ public class AuthService {
         
         if (refreshToken != null && !refreshToken.isEmpty()) {
             // Refresh token 삭제
-            String username = jwtUtil.extractUsername(refreshToken);
-            String storedRefreshToken = tokenStorageService.getRefreshToken(username);
-            if (storedRefreshToken != null && storedRefreshToken.equals(refreshToken)) {
-                tokenStorageService.deleteRefreshToken(username);
-            }
+            revokeRefreshToken(refreshToken);
         }
         
         // 쿠키 삭제 (모든 도메인에 대해)
@@ -332,30 +328,11 @@ public class AuthService {
             throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "Refresh token이 필요합니다.");
         }
 
-        // Refresh token에서 username 추출
-        String username = jwtUtil.extractUsername(refreshToken);
-        
-        // Refresh token이 만료되었는지 확인
-        if (jwtUtil.isTokenExpired(refreshToken)) {
-            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "token_expired");
-        }
-
-        // 저장된 refresh token과 일치하는지 확인
-        String storedRefreshToken = tokenStorageService.getRefreshToken(username);
-        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
-            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "유효하지 않은 refresh token입니다.");
-        }
-
-        // 사용자 정보 조회
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
+        // Refresh token 검증 (서명/만료/저장소 일치) 및 사용자 조회
+        User user = verifyRefreshToken(refreshToken);
 
         // 새로운 access token 생성
-        Map<String, Object> claims = Map.of(
-                "tenant_id", user.getTenantId(),
-                "username", user.getUsername(),
-                "user_id", user.getId()
-        );
+        Map<String, Object> claims = buildAccessTokenClaims(user);
         String newAccessToken = JwtUtil.generateAccessToken(user.getUsername(), claims);
 
         // Origin 헤더에서 호스트 추출하여 해당 도메인에 맞는 쿠키 설정
@@ -405,49 +382,207 @@ public class AuthService {
         }
     }
 
-    public boolean checkPermission(String userId, String code) {
-        // 사용자 조회
-        User user = userRepository.findById(Long.parseLong(userId))
+    /**
+     * Refresh Token 을 발급하고 저장합니다.
+     * 기기 ID 가 있으면 sid 클레임을 담아 (테넌트, 사용자 ID) 세션 해시에 기기별로 저장하여 다른 기기의 세션을 유지합니다.
+     * 기기 ID 가 없으면 기존처럼 사용자명당 하나의 토큰을 저장합니다.
+     */
+    private String issueRefreshToken(User user, String deviceId) {
+        long expirationTime = JwtUtil.getRefreshTokenExpirationTime();
+        if (deviceId == null || deviceId.isBlank()) {
+            String refreshToken = JwtUtil.generateRefreshToken(user.getUsername());
+            tokenStorageService.saveRefreshToken(user.getUsername(), refreshToken, expirationTime);
+            return refreshToken;
+        }
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TENANT_ID_CLAIM, user.getTenantId());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(SESSION_ID_CLAIM, deviceId);
+        String refreshToken = JwtUtil.generateRefreshToken(user.getUsername(), claims);
+        sessionStorageService.saveSession(new SessionStorageService.SessionKey(user.getTenantId(), user.getId()),
+                deviceId, user.getUsername(), refreshToken, expirationTime);
+        return refreshToken;
+    }
+
+    /**
+     * Refresh Token 의 서명/만료와 저장소 일치 여부를 확인하고 사용자를 조회합니다.
+     */
+    private User verifyRefreshToken(String refreshToken) {
+        // 검증 캐시 우선 조회
+        JwtUtil.ParsedToken parsedToken = verifiedTokenCache.parse(refreshToken);
+
+        // Refresh token이 만료되었는지 확인
+        if (parsedToken.isExpired()) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "token_expired");
+        }
+
+        String deviceId = parsedToken.claims().get(SESSION_ID_CLAIM, String.class);
+        if (deviceId != null) {
+            SessionStorageService.SessionKey key = toSessionKey(parsedToken);
+            if (!sessionStorageService.matchesSession(key, deviceId, refreshToken)) {
+                throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "유효하지 않은 refresh token입니다.");
+            }
+            return userRepository.findById(key.userId())
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
+        }
+
+        // 저장된 refresh token과 일치하는지 확인
+        String username = parsedToken.subject();
+        if (!tokenStorageService.matchesRefreshToken(username, refreshToken)) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "유효하지 않은 refresh token입니다.");
+        }
+
+        // 사용자 정보 조회
+        return userRepository.findByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
-        
-        // 사용자의 모든 역할 ID 수집
-        List<Long> roleIds = new ArrayList<>();
-        
-        // 그룹을 통한 역할 수집
-        List<UserGroup> userGroups = userGroupRepository.findAllByIdUserId(user.getId());
-        for (UserGroup userGroup : userGroups) {
-            List<GroupRole> groupRoles = groupRoleRepository.findAllByIdGroupId(userGroup.getId().getGroupId());
-            for (GroupRole groupRole : groupRoles) {
-                roleIds.add(groupRole.getId().getRoleId());
+    }
+
+    /**
+     * 저장된 토큰과 일치하는 경우 Refresh Token 을 삭제합니다. (기기별 세션은 해당 기기만)
+     */
+    private void revokeRefreshToken(String refreshToken) {
+        JwtUtil.ParsedToken parsedToken = verifiedTokenCache.parse(refreshToken);
+        String deviceId = parsedToken.claims().get(SESSION_ID_CLAIM, String.class);
+        if (deviceId != null) {
+            SessionStorageService.SessionKey key = toSessionKey(parsedToken);
+            if (sessionStorageService.matchesSession(key, deviceId, refreshToken)) {
+                sessionStorageService.deleteSession(key, deviceId);
             }
+            return;
         }
-        
-        // 직접 할당된 역할 수집
-        List<UserRole> userRoles = userRoleRepository.findAllByIdUserId(user.getId());
-        for (UserRole userRole : userRoles) {
-            roleIds.add(userRole.getId().getRoleId());
+
+        String username = parsedToken.subject();
+        if (tokenStorageService.matchesRefreshToken(username, refreshToken)) {
+            tokenStorageService.deleteRefreshToken(username);
         }
-        
-        // 역할이 없으면 권한 없음
-        if (roleIds.isEmpty()) {
-            throw new ForbiddenException(ErrorCode.FORBIDDEN_ERROR, "접근 권한이 없습니다.");
+    }
+
+    private SessionStorageService.SessionKey toSessionKey(JwtUtil.ParsedToken parsedToken) {
+        // JSON 숫자 클레임은 크기에 따라 Integer/Long 으로 디코딩되므로 Number 로 변환
+        Number tenantId = parsedToken.claims().get(TENANT_ID_CLAIM, Number.class);
+        Number userId = parsedToken.claims().get(USER_ID_CLAIM, Number.class);
+        if (tenantId == null || userId == null) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_TOKEN_ERROR, "유효하지 않은 refresh token입니다.");
         }
-        
-        // 해당 역할들의 권한 중에서 요청된 코드와 일치하는 것이 있는지 확인
-        for (Long roleId : roleIds) {
-            List<RolePermission> rolePermissions = rolePermissionRepository.findAllByIdRoleId(roleId);
-            for (RolePermission rolePermission : rolePermissions) {
-                Permission permission = permissionRepository.findById(rolePermission.getId().getPermissionId())
-                        .orElse(null); // 권한이 삭제된 경우 무시
-                if (permission != null && code.equals(permission.getCode())) {
-                    return true; // 권한이 있으면 true 반환
-                }
-            }
+        return new SessionStorageService.SessionKey(tenantId.shortValue(), userId.longValue());
+    }
+
+    /**
+     * 사용자의 기기별 세션 목록을 조회합니다.
+     */
+    public List<SessionResponse> getSessions(Short tenantId, Long userId) {
+        return sessionStorageService.listSessions(new SessionStorageService.SessionKey(tenantId, userId)).stream()
+                .map(session -> SessionResponse.builder()
+                        .deviceId(session.deviceId())
+                        .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(session.expiresAt()), ZoneId.systemDefault()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 사용자의 특정 기기 세션을 폐기합니다.
+     */
+    public void revokeSession(Short tenantId, Long userId, String deviceId) {
+        sessionStorageService.deleteSession(new SessionStorageService.SessionKey(tenantId, userId), deviceId);
+    }
+
+    /**
+     * Access Token 클레임 구성
+     * 권한 클레임 모드가 켜져 있으면 perms(권한 비트셋), perm_ver(RBAC 버전)를 함께 포함합니다.
+     */
+    private Map<String, Object> buildAccessTokenClaims(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TENANT_ID_CLAIM, user.getTenantId());
+        claims.put("username", user.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId());
+        if (permissionClaimService.isEnabled()) {
+            claims.putAll(permissionClaimService.createClaims(user.getId(), user.getTenantId()));
+        }
+        return claims;
+    }
+
+    /**
+     * perms 클레임 해석용 테넌트 권한 사전 조회
+     */
+    public PermissionDictionaryResponse getPermissionDictionary(Short tenantId) {
+        PermissionClaimService.PermissionDictionary dictionary = permissionClaimService.getDictionary(tenantId);
+        return PermissionDictionaryResponse.builder()
+                .tenantId(tenantId)
+                .permVer(dictionary.version())
+                .codes(dictionary.codes())
+                .build();
+    }
+
+    /**
+     * 테넌트의 모든 사용자 세션(refresh token, 기기별 세션 포함)을 한 번에 폐기합니다.
+     * 기기 ID 없이 발급된 사용자명 키 토큰은 다른 테넌트에 같은 사용자명이 있으면 어느 테넌트의 토큰인지 알 수 없어 삭제하지 않습니다.
+     * 이미 발급된 Access Token 은 만료 시까지 유효합니다.
+     */
+    public SessionRevokeResponse revokeTenantSessions(Short tenantId) {
+        List<Long> userIds = userRepository.findIdsByTenantId(tenantId);
+        sessionStorageService.deleteTenantSessions(tenantId, userIds);
+        // 사용자명 키 토큰은 테넌트를 구분하지 않으므로 다른 테넌트에 같은 사용자명이 없는 경우만 삭제
+        List<String> usernames = userRepository.findUsernamesExclusiveToTenantId(tenantId);
+        tokenStorageService.deleteAll(usernames);
+        log.info("테넌트 세션 일괄 폐기 - tenantId: {}, users: {}, 사용자명 토큰 삭제: {}",
+                tenantId, userIds.size(), usernames.size());
+        return SessionRevokeResponse.builder()
+                .tenantId(tenantId)
+                .revokedUsers(userIds.size())
+                .build();
+    }
+
+    public boolean checkPermission(String userId, String code) {
+        // 권한 인덱스 조회 (인덱스 미스 시 단일 쿼리로 구성)
+        if (permissionIndexService.hasPermission(Long.parseLong(userId), code)) {
+            return true;
         }
         
         // 권한이 없으면 403 에러 발생
         throw new ForbiddenException(ErrorCode.FORBIDDEN_ERROR, "해당 기능에 대한 접근 권한이 없습니다.");
     }
+
+    /**
+     * 여러 (사용자, 권한 코드) 쌍을 한 번에 확인
+     * 사용자별 권한 코드 집합은 한 번만 구성하고, 요청된 모든 코드를 그 집합에 대해 평가합니다.
+     * @return 사용자 ID → (권한 코드 → 보유 여부)
+     */
+    public Map<String, Map<String, Boolean>> checkPermissions(PermissionCheckBatchRequest request) {
+        // 사용자별로 확인할 코드 모으기
+        Map<String, Set<String>> requestedCodes = new LinkedHashMap<>();
+        if (request.getUserId() != null && request.getCodes() != null) {
+            requestedCodes.computeIfAbsent(request.getUserId(), key -> new LinkedHashSet<>())
+                    .addAll(request.getCodes());
+        }
+        if (request.getChecks() != null) {
+            for (PermissionCheckBatchRequest.Check check : request.getChecks()) {
+                requestedCodes.computeIfAbsent(check.getUserId(), key -> new LinkedHashSet<>())
+                        .add(check.getCode());
+            }
+        }
+
+        Map<String, Map<String, Boolean>> results = new LinkedHashMap<>();
+        requestedCodes.forEach((userId, codes) -> {
+            Set<String> grantedCodes = resolvePermissionCodes(userId);
+            Map<String, Boolean> userResults = new LinkedHashMap<>();
+            for (String code : codes) {
+                userResults.put(code, grantedCodes.contains(code));
+            }
+            results.put(userId, userResults);
+        });
+        return results;
+    }
+
+    private Set<String> resolvePermissionCodes(String userId) {
+        try {
+            return permissionIndexService.getPermissionCodes(Long.parseLong(userId));
+        } catch (EntityNotFoundException | NumberFormatException e) {
+            // 일괄 확인에서는 존재하지 않는 사용자를 권한 없음으로 처리
+            log.debug("권한 일괄 확인 - 사용자 조회 실패 userId: {}", userId);
+            return Set.of();
+        }
+    }
     
     /**
      * Origin에서 도메인 추출
@@ -0,0 +1,412 @@
+package com.lts5.user.service;
+
+import com.lts5.user.payload.response.AutocompleteResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static com.lts5.user.entity.QGroup.group;
+import static com.lts5.user.entity.QPermission.permission;
+import static com.lts5.user.entity.QRole.role;
+import static com.lts5.user.entity.QUser.user;
+
+/**
+ * 사용자/그룹/역할/권한 자동완성 (접두어 일치)
+ * - (대상, 테넌트) 별로 소문자 검색어를 정렬 보관하는 ConcurrentSkipListMap 을 두고, 접두어 범위(subMap)의 앞에서부터 limit 건을 반환합니다.
+ *   검색어: 사용자명·이름 / 그룹명 / 역할명 / 권한 코드
+ * - 색인은 처음 조회할 때 백그라운드로 구성하며, 구성 전이거나 Redis 가 비정상이면 DB 접두어 조회(LIKE 'x%' LIMIT)로 응답합니다.
+ * - 생성/수정/삭제는 커밋 후 해당 행을 다시 읽어 반영하고 Redis pub/sub 으로 다른 파드에 전파합니다. (Redis 복구 후에는 전체를 비워 다시 구성)
+ */
+@Slf4j
+@Service
+public class AutocompleteService implements MessageListener {
+
+    private static final String CHANNEL = "autocomplete:changed";
+    // 같은 검색어를 가진 여러 행을 구분하기 위해 키 뒤에 붙이는 구분자 + ID
+    private static final char SEPARATOR = '\u0000';
+
+    public enum Target {
+        USER(user, user.id, user.tenantId, user.isDelete, user.username, user.name, true),
+        GROUP(group, group.id, group.tenantId, group.isDelete, group.name, group.description, false),
+        ROLE(role, role.id, role.tenantId, role.isDelete, role.name, role.description, false),
+        PERMISSION(permission, permission.id, permission.tenantId, permission.isDelete, permission.code, permission.description, false);
+
+        private final EntityPath<?> entity;
+        private final NumberPath<Long> id;
+        private final NumberPath<Short> tenantId;
+        private final BooleanPath isDelete;
+        private final StringPath value;
+        private final StringPath label;
+        // label 도 검색어로 사용할지 여부 (사용자 이름)
+        private final boolean labelSearchable;
+
+        Target(EntityPath<?> entity, NumberPath<Long> id, NumberPath<Short> tenantId, BooleanPath isDelete,
+               StringPath value, StringPath label, boolean labelSearchable) {
+            this.entity = entity;
+            this.id = id;
+            this.tenantId = tenantId;
+            this.isDelete = isDelete;
+            this.value = value;
+            this.label = label;
+            this.labelSearchable = labelSearchable;
+        }
+    }
+
+    private final JPAQueryFactory queryFactory;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.autocomplete.enabled:false}")
+    private boolean enabled;
+
+    private final Map<IndexKey, PrefixIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicBoolean missedUpdates = new AtomicBoolean(false);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autocomplete-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public AutocompleteService(JPAQueryFactory queryFactory,
+                               RedisTemplate<String, String> redisTemplate,
+                               RedisHealthService redisHealthService,
+                               RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.queryFactory = queryFactory;
+        this.redisTemplate = redisTemplate;
+        this.redisHealthService = redisHealthService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    /**
+     * 접두어가 일치하는 항목을 검색어 순으로 최대 limit 건 반환합니다.
+     */
+    public List<AutocompleteResponse> suggest(Target target, Short tenantId, String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (tenantId == null || normalized.isEmpty()) {
+            return List.of();
+        }
+        PrefixIndex index = isUsable() ? getIndex(new IndexKey(target, tenantId)) : null;
+        if (index != null) {
+            return index.lookup(normalized, limit);
+        }
+
+        BooleanExpression matches = target.value.lower().startsWith(normalized);
+        if (target.labelSearchable) {
+            matches = matches.or(target.label.lower().startsWith(normalized));
+        }
+        return fetchRows(target, target.tenantId.eq(tenantId).and(target.isDelete.isFalse()).and(matches), limit)
+                .stream()
+                .map(Row::toResponse)
+                .toList();
+    }
+
+    /**
+     * 생성/수정/삭제된 행을 자동완성 색인에 반영합니다. (트랜잭션 커밋 이후, 다른 파드로 전파)
+     */
+    public void onChanged(Target target, Collection<Long> ids) {
+        if (!enabled || ids == null || ids.isEmpty()) {
+            return;
+        }
+        List<Long> changedIds = List.copyOf(ids);
+        afterCommit(() -> {
+            applyChanged(target, changedIds);
+            publish(target.name() + ":" + changedIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+        });
+    }
+
+    /**
+     * 사용자명 기준으로 삭제된 사용자를 반영합니다. (UserService.delete 는 ID 없이 사용자명으로 삭제)
+     */
+    public void onUserDeleted(String username) {
+        if (!enabled || username == null) {
+            return;
+        }
+        afterCommit(() -> {
+            List<Long> userIds = queryFactory
+                    .select(user.id)
+                    .from(user)
+                    .where(user.username.eq(username))
+                    .fetch();
+            if (!userIds.isEmpty()) {
+                applyChanged(Target.USER, userIds);
+                publish(Target.USER.name() + ":" + userIds.stream().map(String::valueOf).collect(Collectors.joining(",")));
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":", 2);
+            List<Long> ids = Arrays.stream(parts[1].split(","))
+                    .map(Long::valueOf)
+                    .toList();
+            applyChanged(Target.valueOf(parts[0]), ids);
+        } catch (RuntimeException e) {
+            log.warn("자동완성 색인 메시지 처리 실패 - message: {}, error: {}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 주기적으로 전체 색인을 비워 다음 조회 시 다시 구성합니다. (누락된 전파 보정)
+     */
+    @Scheduled(fixedDelayString = "${app.autocomplete.rebuild-interval-millis:3600000}")
+    public void rebuild() {
+        if (enabled) {
+            indexes.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void applyChanged(Target target, List<Long> ids) {
+        try {
+            for (Row row : fetchRows(target, target.id.in(ids), null)) {
+                PrefixIndex index = indexes.get(new IndexKey(target, row.tenantId()));
+                // 아직 구성하지 않은 색인은 구성 시 DB 에서 읽으므로 반영할 필요 없음
+                if (index != null && !index.deferIfBuilding(row.id())) {
+                    index.apply(row);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("자동완성 색인 반영 실패 - target: {}, ids: {}, error: {}", target, ids, e.getMessage());
+        }
+    }
+
+    private PrefixIndex getIndex(IndexKey key) {
+        PrefixIndex index = indexes.get(key);
+        if (index == null) {
+            PrefixIndex created = new PrefixIndex();
+            index = indexes.putIfAbsent(key, created);
+            if (index == null) {
+                executor.execute(() -> build(key, created));
+                return null;
+            }
+        }
+        return index.isReady() ? index : null;
+    }
+
+    private void build(IndexKey key, PrefixIndex index) {
+        Target target = key.target();
+        try {
+            long started = System.currentTimeMillis();
+            List<Row> rows = fetchRows(target, target.tenantId.eq(key.tenantId()).and(target.isDelete.isFalse()), null);
+            rows.forEach(index::apply);
+            // 구성 중 변경된 행을 다시 읽어 반영하고, 더 남은 변경이 없을 때 사용 가능 상태로 전환
+            List<Long> pending;
+            while (!(pending = index.drainPending()).isEmpty()) {
+                fetchRows(target, target.id.in(pending), null).forEach(index::apply);
+            }
+            log.info("자동완성 색인 구성 - target: {}, tenantId: {}, 건수: {}, 소요: {}ms",
+                    target, key.tenantId(), rows.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("자동완성 색인 구성 실패 - target: {}, tenantId: {}, error: {}", target, key.tenantId(), e.getMessage());
+            indexes.remove(key, index);
+        }
+    }
+
+    private List<Row> fetchRows(Target target, Predicate where, Integer limit) {
+        JPAQuery<Tuple> query = queryFactory
+                .select(target.id, target.tenantId, target.isDelete, target.value, target.label)
+                .from(target.entity)
+                .where(where)
+                .orderBy(target.value.asc());
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch().stream()
+                .map(tuple -> new Row(
+                        tuple.get(target.id),
+                        tuple.get(target.tenantId),
+                        Boolean.TRUE.equals(tuple.get(target.isDelete)),
+                        tuple.get(target.value),
+                        tuple.get(target.label),
+                        target.labelSearchable))
+                .toList();
+    }
+
+    /**
+     * Redis 가 정상일 때만 색인을 사용합니다. 장애 동안 전파가 누락될 수 있으므로 복구 후 전체를 비웁니다.
+     */
+    private boolean isUsable() {
+        if (!enabled) {
+            return false;
+        }
+        if (!redisHealthService.isRedisHealthy()) {
+            missedUpdates.set(true);
+            return false;
+        }
+        if (missedUpdates.compareAndSet(true, false)) {
+            indexes.clear();
+        }
+        return true;
+    }
+
+    private void publish(String message) {
+        if (!redisHealthService.isRedisHealthy()) {
+            missedUpdates.set(true);
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("자동완성 색인 전파 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String normalize(String term) {
+        return StringUtils.hasText(term) ? term.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private record IndexKey(Target target, Short tenantId) {
+    }
+
+    private record Row(Long id, Short tenantId, boolean deleted, String value, String label, boolean labelSearchable) {
+
+        List<String> terms() {
+            Set<String> terms = new LinkedHashSet<>();
+            terms.add(normalize(value));
+            if (labelSearchable) {
+                terms.add(normalize(label));
+            }
+            terms.remove("");
+            return new ArrayList<>(terms);
+        }
+
+        AutocompleteResponse toResponse() {
+            return AutocompleteResponse.builder()
+                    .id(id)
+                    .value(value)
+                    .label(label)
+                    .build();
+        }
+    }
+
+    /**
+     * 정렬된 검색어 색인: 키는 "소문자 검색어 + 구분자 + ID" 이며, 조회는 잠금 없이 skip list 범위를 읽습니다. 변경은 this 로 동기화
+     */
+    private static final class PrefixIndex {
+
+        private final ConcurrentSkipListMap<String, AutocompleteResponse> entries = new ConcurrentSkipListMap<>();
+        // ID 별 등록된 키 (수정/삭제 시 이전 검색어 제거용)
+        private final Map<Long, List<String>> keysById = new HashMap<>();
+        // 구성 중 변경된 ID (구성 완료 후 다시 읽어 반영), 구성이 끝나면 null
+        private Set<Long> pendingIds = new LinkedHashSet<>();
+
+        synchronized boolean isReady() {
+            return pendingIds == null;
+        }
+
+        synchronized boolean deferIfBuilding(Long id) {
+            if (pendingIds == null) {
+                return false;
+            }
+            pendingIds.add(id);
+            return true;
+        }
+
+        synchronized List<Long> drainPending() {
+            if (pendingIds.isEmpty()) {
+                pendingIds = null;
+                return List.of();
+            }
+            List<Long> pending = new ArrayList<>(pendingIds);
+            pendingIds.clear();
+            return pending;
+        }
+
+        synchronized void apply(Row row) {
+            List<String> previousKeys = keysById.remove(row.id());
+            if (previousKeys != null) {
+                previousKeys.forEach(entries::remove);
+            }
+            if (row.deleted()) {
+                return;
+            }
+            AutocompleteResponse item = row.toResponse();
+            List<String> keys = new ArrayList<>(2);
+            for (String term : row.terms()) {
+                String key = term + SEPARATOR + row.id();
+                keys.add(key);
+                entries.put(key, item);
+            }
+            keysById.put(row.id(), keys);
+        }
+
+        List<AutocompleteResponse> lookup(String prefix, int limit) {
+            // 한 행이 여러 검색어(사용자명, 이름)로 일치할 수 있으므로 ID 로 중복 제거
+            Map<Long, AutocompleteResponse> result = new LinkedHashMap<>();
+            for (AutocompleteResponse item : entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                result.putIfAbsent(item.getId(), item);
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+            return new ArrayList<>(result.values());
+        }
+    }
+}
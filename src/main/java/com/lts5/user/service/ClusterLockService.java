@@ -0,0 +1,141 @@
+package com.lts5.user.service;
+
+import com.lts5.user.repository.SchedulerLockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 클러스터 단위 스케줄 작업 잠금
+ * - 여러 파드에서 같은 @Scheduled 작업이 실행될 때 한 파드만 수행하도록 runExclusively 로 감쌉니다.
+ * - Redis(SET lock:{name} NX PX) 를 우선 사용하고, Redis 장애 시 scheduler_locks 테이블 행으로 대신 잠급니다.
+ * - lockAtMost: 실행 파드가 죽어도 잠금이 풀리는 상한, lockAtLeast: 시계가 조금 어긋난 다른 파드가 같은 회차를 다시 실행하지 않도록 유지할 최소 시간
+ * - 파드별로 수행해야 하는 작업(Redis 헬스 프로브, 파드 메모리 캐시 재구성 등)에는 사용하지 않습니다.
+ * - Redis 장애 전환 순간에는 Redis 잠금과 DB 잠금이 겹칠 수 있으므로 작업은 멱등이어야 합니다.
+ */
+@Slf4j
+@Service
+public class ClusterLockService {
+
+    private static final String LOCK_KEY_PREFIX = "lock:";
+
+    // 자신이 가진 잠금만 해제 (ARGV[2] > 0 이면 그 시간만큼 유지 후 만료)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              local keepMillis = tonumber(ARGV[2])
+              if keepMillis > 0 then
+                return redis.call('PEXPIRE', KEYS[1], keepMillis)
+              end
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate lockTransaction;
+    private final String instanceName;
+
+    public ClusterLockService(RedisTemplate<String, String> redisTemplate,
+                              RedisHealthService redisHealthService,
+                              SchedulerLockRepository schedulerLockRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.redisHealthService = redisHealthService;
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String hostname = System.getenv("HOSTNAME");
+        this.instanceName = hostname != null ? hostname : "instance";
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행합니다.
+     * @param name 작업 이름 (클러스터 전체에서 고유)
+     * @param lockAtMost 최대 잠금 시간
+     * @param lockAtLeast 최소 잠금 시간 (작업이 빨리 끝나도 이 시간 동안은 다른 파드가 실행하지 않음)
+     * @return 실행 여부
+     */
+    public boolean runExclusively(String name, Duration lockAtMost, Duration lockAtLeast, Runnable job) {
+        String owner = instanceName + ":" + UUID.randomUUID();
+        long startedAt = System.currentTimeMillis();
+        LockType lockType = acquire(name, owner, lockAtMost);
+        if (lockType == null) {
+            log.debug("다른 파드에서 실행 중이거나 최근에 실행되어 건너뜁니다. job: {}", name);
+            return false;
+        }
+        try {
+            job.run();
+            return true;
+        } finally {
+            long keepMillis = Math.max(0, startedAt + lockAtLeast.toMillis() - System.currentTimeMillis());
+            release(name, owner, lockType, keepMillis);
+        }
+    }
+
+    private LockType acquire(String name, String owner, Duration lockAtMost) {
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + name, owner, lockAtMost);
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+                return Boolean.TRUE.equals(acquired) ? LockType.REDIS : null;
+            } catch (Exception e) {
+                log.warn("Redis 잠금 획득 실패, DB 잠금을 사용합니다. job: {}, error: {}", name, e.getMessage());
+                redisHealthService.recordFailure(e);
+            }
+        }
+        return acquireDatabaseLock(name, owner, lockAtMost) ? LockType.DATABASE : null;
+    }
+
+    private boolean acquireDatabaseLock(String name, String owner, Duration lockAtMost) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lockAtMost);
+        try {
+            Integer updated = lockTransaction.execute(status ->
+                    schedulerLockRepository.acquireExpired(name, owner, now, until));
+            if (updated != null && updated > 0) {
+                return true;
+            }
+            Integer inserted = lockTransaction.execute(status ->
+                    schedulerLockRepository.insertLock(name, owner, now, until));
+            return inserted != null && inserted > 0;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 파드가 먼저 잠금 행을 만든 경우
+            return false;
+        } catch (Exception e) {
+            log.error("DB 잠금 획득 실패. job: {}", name, e);
+            return false;
+        }
+    }
+
+    private void release(String name, String owner, LockType lockType, long keepMillis) {
+        try {
+            if (lockType == LockType.REDIS) {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + name), owner, String.valueOf(keepMillis));
+            } else {
+                LocalDateTime until = LocalDateTime.now().plus(Duration.ofMillis(keepMillis));
+                lockTransaction.executeWithoutResult(status -> schedulerLockRepository.release(name, owner, until));
+            }
+        } catch (Exception e) {
+            // 해제에 실패해도 lockAtMost 가 지나면 풀림
+            log.warn("잠금 해제 실패. job: {}, error: {}", name, e.getMessage());
+        }
+    }
+
+    private enum LockType {
+        REDIS, DATABASE
+    }
+}
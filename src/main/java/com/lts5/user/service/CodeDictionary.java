@@ -0,0 +1,90 @@
+package com.lts5.user.service;
+
+import com.lts5.user.repository.code.CodeRepository;
+import com.lts5.user.repository.code.CodeVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테넌트별 코드 사전 (코드값 → 코드명)
+ * - 사용자 목록의 부서/직급/직책 코드명 변환을 codes 테이블 JOIN 대신 메모리 조회로 처리합니다.
+ * - 테넌트별로 처음 조회할 때 구성하며, 이후에는 불변 Map 을 그대로 반환합니다.
+ * - codes 는 다른 서비스에서 관리하므로 주기적으로 (건수, 최종 수정 시각) 버전만 확인하고, 바뀐 테넌트만 다시 구성합니다.
+ *   (변경 반영 지연 상한: app.code-dictionary.poll-millis)
+ * - 파드 메모리 캐시이므로 ClusterLockService 없이 파드별로 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CodeDictionary {
+
+    private final CodeRepository codeRepository;
+
+    private final Map<Short, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 테넌트의 코드값 → 코드명 Map 을 반환합니다. (읽기 전용)
+     */
+    public Map<String, String> getCodeNames(Short tenantId) {
+        if (tenantId == null) {
+            return Map.of();
+        }
+        Snapshot snapshot = snapshots.get(tenantId);
+        if (snapshot == null) {
+            snapshot = load(tenantId);
+            Snapshot existing = snapshots.putIfAbsent(tenantId, snapshot);
+            if (existing != null) {
+                snapshot = existing;
+            }
+        }
+        return snapshot.codeNames();
+    }
+
+    /**
+     * 코드명으로 변환합니다. (사전에 없는 코드값은 그대로 반환)
+     */
+    public String getCodeName(Map<String, String> codeNames, String codeValue) {
+        return codeValue != null ? codeNames.getOrDefault(codeValue, codeValue) : null;
+    }
+
+    /**
+     * 구성된 테넌트의 코드 버전을 확인하여 바뀐 테넌트만 다시 구성합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.code-dictionary.poll-millis:30000}")
+    public void refresh() {
+        for (Map.Entry<Short, Snapshot> entry : snapshots.entrySet()) {
+            Short tenantId = entry.getKey();
+            try {
+                CodeVersion version = codeRepository.findCodeVersion(tenantId);
+                if (!version.equals(entry.getValue().version())) {
+                    snapshots.put(tenantId, load(tenantId));
+                    log.info("코드 사전 갱신 - tenantId: {}, 코드 수: {}", tenantId, version.count());
+                }
+            } catch (Exception e) {
+                log.warn("코드 사전 버전 확인 실패 - tenantId: {}, error: {}", tenantId, e.getMessage());
+            }
+        }
+    }
+
+    private Snapshot load(Short tenantId) {
+        // 버전을 먼저 읽어, 구성 중 변경이 있으면 다음 확인에서 다시 구성되도록 함
+        CodeVersion version = codeRepository.findCodeVersion(tenantId);
+        List<Object[]> rows = codeRepository.findActiveCodeNames(tenantId);
+        Map<String, String> codeNames = new HashMap<>();
+        for (Object[] row : rows) {
+            codeNames.putIfAbsent((String) row[0], (String) row[1]);
+        }
+        log.debug("코드 사전 구성 - tenantId: {}, 코드 수: {}", tenantId, codeNames.size());
+        return new Snapshot(Map.copyOf(codeNames), version);
+    }
+
+    private record Snapshot(Map<String, String> codeNames, CodeVersion version) {
+    }
+}
@@ -2,27 +2,50 @@ package com.lts5.user.service;
 
 import com.lts5.user.entity.RefreshToken;
 import com.lts5.user.repository.RefreshTokenRepository;
+import com.lts5.user.util.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
-public class DatabaseTokenStorageService implements TokenStorageService {
+public class DatabaseTokenStorageService implements TokenStorageService, SessionStorageService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenWriteBehindService writeBehindService;
+
+    // IN 절 한 번에 넣는 최대 사용자 수
+    private static final int IN_CHUNK_SIZE = 1000;
 
     @Override
     public void saveRefreshToken(String username, String refreshToken, long expirationTime) {
+        if (writeBehindService.isAsync()) {
+            // 쓰기 지연 모드: 대기열에 넣고 배치로 반영
+            LocalDateTime expiresAt = LocalDateTime.now().plusNanos(expirationTime * 1_000_000);
+            writeBehindService.enqueueSave(username, refreshToken, expiresAt);
+            verifiedTokenCache.evictSubject(username);
+            return;
+        }
         try {
             // 기존 토큰들을 모두 삭제 (한 사용자당 하나의 토큰만 유지)
             refreshTokenRepository.deleteByUsername(username);
+            verifiedTokenCache.evictSubject(username);
             
             // 새로운 토큰 저장
             LocalDateTime expiresAt = LocalDateTime.now().plusNanos(expirationTime * 1_000_000);
@@ -42,6 +65,11 @@ public class DatabaseTokenStorageService implements TokenStorageService {
 
     @Override
     public String getRefreshToken(String username) {
+        // 아직 반영되지 않은 쓰기가 있으면 그 값을 우선
+        RefreshTokenWriteBehindService.PendingWrite pendingWrite = writeBehindService.getPending(username);
+        if (pendingWrite != null) {
+            return pendingWrite.isValid() ? pendingWrite.refreshToken() : null;
+        }
         try {
             LocalDateTime now = LocalDateTime.now();
             return refreshTokenRepository.findValidTokenByUsername(username, now)
@@ -55,8 +83,16 @@ public class DatabaseTokenStorageService implements TokenStorageService {
 
     @Override
     public void deleteRefreshToken(String username) {
+        if (writeBehindService.isAsync()) {
+            // 이전 저장보다 먼저 반영되지 않도록 삭제도 같은 대기열로 순서 보장
+            writeBehindService.enqueueDelete(username);
+            verifiedTokenCache.evictSubject(username);
+            return;
+        }
         try {
             refreshTokenRepository.deleteByUsername(username);
+            // 삭제된 토큰이 검증 캐시에서 재사용되지 않도록 제거
+            verifiedTokenCache.evictSubject(username);
             log.debug("Refresh token deleted from database for user: {}", username);
         } catch (Exception e) {
             log.error("Failed to delete refresh token from database for user: {}", username, e);
@@ -66,6 +102,10 @@ public class DatabaseTokenStorageService implements TokenStorageService {
 
     @Override
     public boolean existsRefreshToken(String username) {
+        RefreshTokenWriteBehindService.PendingWrite pendingWrite = writeBehindService.getPending(username);
+        if (pendingWrite != null) {
+            return pendingWrite.isValid();
+        }
         try {
             LocalDateTime now = LocalDateTime.now();
             return refreshTokenRepository.existsValidTokenByUsername(username, now);
@@ -75,20 +115,181 @@ public class DatabaseTokenStorageService implements TokenStorageService {
         }
     }
 
-    /**
-     * 만료된 토큰들을 정리합니다. (매일 새벽 2시에 실행)
-     */
-    @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
-    public void cleanupExpiredTokens() {
+    @Override
+    public void saveAll(Map<String, String> refreshTokens, long expirationTime) {
+        if (refreshTokens.isEmpty()) {
+            return;
+        }
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(expirationTime * 1_000_000);
+        if (writeBehindService.isAsync()) {
+            refreshTokens.forEach((username, refreshToken) -> {
+                writeBehindService.enqueueSave(username, refreshToken, expiresAt);
+                verifiedTokenCache.evictSubject(username);
+            });
+            return;
+        }
+        try {
+            for (List<String> chunk : chunks(refreshTokens.keySet())) {
+                refreshTokenRepository.deleteByUsernameIn(chunk);
+            }
+            refreshTokens.keySet().forEach(verifiedTokenCache::evictSubject);
+
+            List<RefreshToken> tokens = new ArrayList<>(refreshTokens.size());
+            refreshTokens.forEach((username, refreshToken) -> tokens.add(RefreshToken.builder()
+                    .username(username)
+                    .refreshToken(refreshToken)
+                    .expiresAt(expiresAt)
+                    .build()));
+            refreshTokenRepository.saveAll(tokens);
+            log.debug("Refresh tokens saved to database - count: {}", tokens.size());
+        } catch (Exception e) {
+            log.error("Failed to save refresh tokens to database - count: {}", refreshTokens.size(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, String> getAll(Collection<String> usernames) {
+        Map<String, String> result = new LinkedHashMap<>();
+        List<String> remaining = new ArrayList<>(usernames.size());
+        for (String username : usernames) {
+            RefreshTokenWriteBehindService.PendingWrite pendingWrite = writeBehindService.getPending(username);
+            if (pendingWrite == null) {
+                remaining.add(username);
+            } else if (pendingWrite.isValid()) {
+                result.put(username, pendingWrite.refreshToken());
+            }
+        }
+        if (remaining.isEmpty()) {
+            return result;
+        }
         try {
             LocalDateTime now = LocalDateTime.now();
-            int deletedCount = refreshTokenRepository.deleteExpiredTokens(now);
-            if (deletedCount > 0) {
-                log.info("만료된 refresh token {}개를 정리했습니다.", deletedCount);
+            for (List<String> chunk : chunks(remaining)) {
+                for (RefreshToken token : refreshTokenRepository.findValidTokensByUsernameIn(chunk, now)) {
+                    result.put(token.getUsername(), token.getRefreshToken());
+                }
             }
+            return result;
         } catch (Exception e) {
-            log.error("만료된 토큰 정리 중 오류 발생", e);
+            log.error("Failed to get refresh tokens from database - count: {}", remaining.size(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        if (writeBehindService.isAsync()) {
+            usernames.forEach(username -> {
+                writeBehindService.enqueueDelete(username);
+                verifiedTokenCache.evictSubject(username);
+            });
+            return;
+        }
+        try {
+            int deletedCount = 0;
+            for (List<String> chunk : chunks(usernames)) {
+                deletedCount += refreshTokenRepository.deleteByUsernameIn(chunk);
+            }
+            usernames.forEach(verifiedTokenCache::evictSubject);
+            log.debug("Refresh tokens deleted from database - users: {}, rows: {}", usernames.size(), deletedCount);
+        } catch (Exception e) {
+            log.error("Failed to delete refresh tokens from database - count: {}", usernames.size(), e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> existsAll(Collection<String> usernames) {
+        return new LinkedHashSet<>(getAll(usernames).keySet());
+    }
+
+    // ===== 기기별 세션 (쓰기 지연 없이 즉시 반영) =====
+
+    @Override
+    public void saveSession(SessionKey key, String deviceId, String username, String refreshToken, long expirationTime) {
+        refreshTokenRepository.deleteSession(key.tenantId(), key.userId(), deviceId);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .username(username)
+                .refreshToken(refreshToken)
+                .tenantId(key.tenantId())
+                .userId(key.userId())
+                .deviceId(deviceId)
+                .expiresAt(LocalDateTime.now().plusNanos(expirationTime * 1_000_000))
+                .build());
+        verifiedTokenCache.evictSubject(username);
+        log.debug("Session saved to database - key: {}, deviceId: {}", key, deviceId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getSession(SessionKey key, String deviceId) {
+        return findSession(key, deviceId)
+                .map(RefreshToken::getRefreshToken)
+                .orElse(null);
+    }
+
+    /**
+     * 기기의 유효 세션 행을 조회합니다. (Redis 값과 만료 시각 비교용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<RefreshToken> findSession(SessionKey key, String deviceId) {
+        return refreshTokenRepository.findValidSession(key.tenantId(), key.userId(), deviceId, LocalDateTime.now());
+    }
+
+    /**
+     * lastId 이후의 유효한 기기 세션 행을 조회합니다. (Redis 재동기화용)
+     */
+    @Transactional(readOnly = true)
+    public List<RefreshToken> findValidSessionsAfter(long lastId, int size) {
+        return refreshTokenRepository.findValidSessionsAfter(lastId, LocalDateTime.now(), PageRequest.of(0, size));
+    }
+
+    /**
+     * Redis 로 옮긴 기기 세션 행을 삭제합니다.
+     */
+    public void deleteSessionRows(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            refreshTokenRepository.deleteByIdIn(ids);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SessionInfo> listSessions(SessionKey key) {
+        ZoneId zone = ZoneId.systemDefault();
+        return refreshTokenRepository.findValidSessions(key.tenantId(), key.userId(), LocalDateTime.now()).stream()
+                .map(token -> new SessionInfo(token.getDeviceId(), token.getExpiresAt().atZone(zone).toInstant().toEpochMilli()))
+                .toList();
+    }
+
+    @Override
+    public void deleteSession(SessionKey key, String deviceId) {
+        refreshTokenRepository.deleteSession(key.tenantId(), key.userId(), deviceId);
+    }
+
+    @Override
+    public void deleteAllSessions(SessionKey key) {
+        refreshTokenRepository.deleteSessions(key.tenantId(), key.userId());
+    }
+
+    @Override
+    public void deleteTenantSessions(Short tenantId, Collection<Long> userIds) {
+        int deletedCount = refreshTokenRepository.deleteSessionsByTenantId(tenantId);
+        log.debug("Tenant sessions deleted from database - tenantId: {}, rows: {}", tenantId, deletedCount);
+    }
+
+    private static List<List<String>> chunks(Collection<String> usernames) {
+        List<String> ordered = new ArrayList<>(usernames);
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < ordered.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(ordered.subList(from, Math.min(from + IN_CHUNK_SIZE, ordered.size())));
         }
+        return chunks;
     }
 } 
\ No newline at end of file
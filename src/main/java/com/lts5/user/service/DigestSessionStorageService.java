@@ -0,0 +1,56 @@
+package com.lts5.user.service;
+
+import com.lts5.user.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 기기별 세션에 refresh token 원문 대신 SHA-256 다이제스트를 저장하는 데코레이터
+ * DigestTokenStorageService 와 같은 방식이며, 전환 이전 원문 세션도 accept-legacy 설정에 따라 인정합니다.
+ */
+@RequiredArgsConstructor
+public class DigestSessionStorageService implements SessionStorageService {
+
+    private final SessionStorageService delegate;
+    private final boolean acceptLegacy;
+
+    @Override
+    public void saveSession(SessionKey key, String deviceId, String username, String refreshToken, long expirationTime) {
+        delegate.saveSession(key, deviceId, username, TokenDigest.sha256(refreshToken), expirationTime);
+    }
+
+    @Override
+    public String getSession(SessionKey key, String deviceId) {
+        return delegate.getSession(key, deviceId);
+    }
+
+    @Override
+    public List<SessionInfo> listSessions(SessionKey key) {
+        return delegate.listSessions(key);
+    }
+
+    @Override
+    public void deleteSession(SessionKey key, String deviceId) {
+        delegate.deleteSession(key, deviceId);
+    }
+
+    @Override
+    public void deleteAllSessions(SessionKey key) {
+        delegate.deleteAllSessions(key);
+    }
+
+    @Override
+    public void deleteTenantSessions(Short tenantId, Collection<Long> userIds) {
+        delegate.deleteTenantSessions(tenantId, userIds);
+    }
+
+    @Override
+    public boolean matchesSession(SessionKey key, String deviceId, String refreshToken) {
+        if (delegate.matchesSession(key, deviceId, TokenDigest.sha256(refreshToken))) {
+            return true;
+        }
+        return acceptLegacy && delegate.matchesSession(key, deviceId, refreshToken);
+    }
+}
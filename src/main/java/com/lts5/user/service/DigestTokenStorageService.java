@@ -0,0 +1,74 @@
+package com.lts5.user.service;
+
+import com.lts5.user.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * refresh token 원문 대신 SHA-256 다이제스트(43자)를 저장하는 저장소 데코레이터
+ * - Redis 값과 DB 컬럼에 JWT 전체(수백 바이트)를 두지 않으므로 세션당 메모리가 줄고, 저장소가 유출되어도 토큰을 재사용할 수 없습니다.
+ * - 일치 확인은 전달된 토큰의 다이제스트를 상수 시간으로 비교합니다.
+ * - 전환 이전에 원문으로 저장된 토큰도 만료 시까지 인정합니다. (accept-legacy)
+ * - 조회 메서드(getRefreshToken/getAll)는 원문이 아닌 저장된 다이제스트를 반환합니다.
+ */
+@RequiredArgsConstructor
+public class DigestTokenStorageService implements TokenStorageService {
+
+    private final TokenStorageService delegate;
+    private final boolean acceptLegacy;
+
+    @Override
+    public void saveRefreshToken(String username, String refreshToken, long expirationTime) {
+        delegate.saveRefreshToken(username, TokenDigest.sha256(refreshToken), expirationTime);
+    }
+
+    @Override
+    public String getRefreshToken(String username) {
+        return delegate.getRefreshToken(username);
+    }
+
+    @Override
+    public void deleteRefreshToken(String username) {
+        delegate.deleteRefreshToken(username);
+    }
+
+    @Override
+    public boolean existsRefreshToken(String username) {
+        return delegate.existsRefreshToken(username);
+    }
+
+    @Override
+    public boolean matchesRefreshToken(String username, String refreshToken) {
+        if (delegate.matchesRefreshToken(username, TokenDigest.sha256(refreshToken))) {
+            return true;
+        }
+        // 다이제스트가 맞지 않을 때만 원문 저장 여부 확인 (전환 기간)
+        return acceptLegacy && delegate.matchesRefreshToken(username, refreshToken);
+    }
+
+    @Override
+    public void saveAll(Map<String, String> refreshTokens, long expirationTime) {
+        Map<String, String> digests = new LinkedHashMap<>();
+        refreshTokens.forEach((username, refreshToken) -> digests.put(username, TokenDigest.sha256(refreshToken)));
+        delegate.saveAll(digests, expirationTime);
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> usernames) {
+        return delegate.getAll(usernames);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> usernames) {
+        delegate.deleteAll(usernames);
+    }
+
+    @Override
+    public Set<String> existsAll(Collection<String> usernames) {
+        return delegate.existsAll(usernames);
+    }
+}
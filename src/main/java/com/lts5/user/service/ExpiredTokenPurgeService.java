@@ -0,0 +1,120 @@
+package com.lts5.user.service;
+
+import com.lts5.user.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료된 refresh token 분할 정리
+ * - 한 번의 대량 DELETE 대신 expires_at 인덱스 순으로 batch-size 건씩 id 를 조회해 삭제하며, 배치마다 별도(REQUIRES_NEW)의 짧은 트랜잭션을 사용합니다.
+ * - 배치 사이에 pause-millis 만큼 쉬고, time-budget-millis 를 넘기면 남은 행은 다음 실행으로 미룹니다.
+ * - ClusterLockService 잠금으로 한 파드만 실행합니다.
+ * - 지표: auth.token.purge.rows, auth.token.purge.batches, auth.token.purge.duration
+ */
+@Slf4j
+@Service
+public class ExpiredTokenPurgeService {
+
+    private static final String LOCK_NAME = "refresh-token-purge";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ClusterLockService clusterLockService;
+    private final TransactionTemplate batchTransaction;
+    private final Counter purgedRowsCounter;
+    private final Counter batchCounter;
+    private final Timer purgeTimer;
+
+    @Value("${app.token-storage.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.token-storage.purge.pause-millis:100}")
+    private long pauseMillis;
+
+    @Value("${app.token-storage.purge.time-budget-millis:600000}")
+    private long timeBudgetMillis;
+
+    public ExpiredTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+                                    ClusterLockService clusterLockService,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.clusterLockService = clusterLockService;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.purgedRowsCounter = Counter.builder("auth.token.purge.rows")
+                .description("정리된 만료 refresh token 행 수")
+                .register(meterRegistry);
+        this.batchCounter = Counter.builder("auth.token.purge.batches")
+                .description("만료 토큰 정리 배치 수")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("auth.token.purge.duration")
+                .description("만료 토큰 정리 1회 전체 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 토큰들을 정리합니다. (매일 새벽 2시에 실행)
+     */
+    @Scheduled(cron = "${app.token-storage.purge.cron:0 0 2 * * ?}")
+    public void purgeExpiredTokens() {
+        // 시간 예산보다 조금 길게 잡아, 실행 중인 파드가 죽어도 다음 회차에는 잠금이 풀려 있도록 함
+        clusterLockService.runExclusively(LOCK_NAME,
+                Duration.ofMillis(timeBudgetMillis).plusMinutes(5),
+                Duration.ofMinutes(1),
+                () -> purgeTimer.record(this::purge));
+    }
+
+    private void purge() {
+        long started = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now();
+        long purged = 0;
+        int batches = 0;
+        try {
+            while (true) {
+                Integer deleted = batchTransaction.execute(status -> {
+                    List<Long> ids = refreshTokenRepository.findExpiredTokenIds(cutoff, PageRequest.of(0, batchSize));
+                    return ids.isEmpty() ? 0 : refreshTokenRepository.deleteByIdIn(ids);
+                });
+                if (deleted == null || deleted == 0) {
+                    break;
+                }
+                purged += deleted;
+                batches++;
+                purgedRowsCounter.increment(deleted);
+                batchCounter.increment();
+
+                if (deleted < batchSize) {
+                    break;
+                }
+                if (System.currentTimeMillis() - started >= timeBudgetMillis) {
+                    log.info("만료 토큰 정리 시간 예산 초과, 나머지는 다음 실행에서 정리합니다. (정리: {}건)", purged);
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료 토큰 정리가 중단되었습니다. (정리: {}건)", purged);
+        } catch (Exception e) {
+            log.error("만료 토큰 정리 중 오류 발생", e);
+        }
+        if (purged > 0) {
+            log.info("만료된 refresh token {}개를 정리했습니다. (배치: {}, 소요: {}ms)",
+                    purged, batches, System.currentTimeMillis() - started);
+        }
+    }
+}
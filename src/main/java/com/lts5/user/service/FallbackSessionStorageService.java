@@ -0,0 +1,360 @@
+package com.lts5.user.service;
+
+import com.lts5.user.entity.RefreshToken;
+import com.lts5.user.util.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 해시 기반 기기별 세션 저장소 (Redis 장애 시 DB 로 대체)
+ * - 키 session:{tenantId}:{userId} 의 해시에 deviceId → "{만료시각(36진수)}:{refresh token}" 으로 저장합니다.
+ * - 해시 필드에는 TTL 이 없으므로 만료 시각을 값에 담고, 저장/목록 조회 시 만료 필드를 지우며(지연 정리) 키 TTL 을 가장 늦은 만료 시각에 맞춥니다.
+ * - 기기 수가 max-devices 를 넘으면 만료가 가장 이른 세션부터 제거합니다.
+ * - Redis 에 없는 세션은 DB 에서 다시 확인하므로 장애 중 DB 에만 저장된 세션도 유효합니다.
+ *   단, Redis 조회에 성공했고 재동기화로 Redis 가 기준 저장소가 된 뒤(isRedisAuthoritative)에는 DB 를 조회하지 않습니다.
+ * - Redis 저장에 성공하면 장애 중 DB 에 남긴 같은 기기의 행을 지우고, 재동기화 시 DB 에만 있는 세션을 Redis 로 옮긴 뒤 행을 지웁니다.
+ * - 장애 중 반영하지 못한 삭제는 복구 후 해당 사용자 해시 전체를 삭제합니다. (Redis 에만 있던 다른 기기 세션도 재로그인이 필요해지는, 보수적인 처리)
+ */
+@Slf4j
+public class FallbackSessionStorageService implements SessionStorageService {
+
+    private static final String SESSION_KEY_PREFIX = "session:";
+
+    // 재동기화 시 한 번에 옮기는 DB 세션 수
+    private static final int RESTORE_PAGE_SIZE = 500;
+
+    // KEYS[1]=세션 키, ARGV=[deviceId, 값, 현재 시각, 최대 기기 수, 만료가 더 늦을 때만 기록 여부(1/0)]
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[3])
+            local maxDevices = tonumber(ARGV[4])
+            local write = true
+            if ARGV[5] == '1' then
+              local current = redis.call('HGET', KEYS[1], ARGV[1])
+              if current then
+                local sep = string.find(current, ':', 1, true)
+                local currentExpiry = sep and tonumber(string.sub(current, 1, sep - 1), 36) or 0
+                local newSep = string.find(ARGV[2], ':', 1, true)
+                write = currentExpiry < tonumber(string.sub(ARGV[2], 1, newSep - 1), 36)
+              end
+            end
+            if write then
+              redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            end
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            local maxExpiry = 0
+            for i = 1, #entries, 2 do
+              local value = entries[i + 1]
+              local sep = string.find(value, ':', 1, true)
+              local expiry = sep and tonumber(string.sub(value, 1, sep - 1), 36) or 0
+              if expiry <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+              else
+                live[#live + 1] = {entries[i], expiry}
+                if expiry > maxExpiry then maxExpiry = expiry end
+              end
+            end
+            if #live > maxDevices then
+              table.sort(live, function(a, b) return a[2] < b[2] end)
+              for i = 1, #live - maxDevices do
+                redis.call('HDEL', KEYS[1], live[i][1])
+              end
+            end
+            if maxExpiry > now then
+              redis.call('PEXPIRE', KEYS[1], maxExpiry - now)
+            end
+            return math.min(#live, maxDevices)
+            """, Long.class);
+
+    // KEYS[1]=세션 키, ARGV=[현재 시각] → 만료 필드를 지우고 남은 필드/값을 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP_SCRIPT = new DefaultRedisScript<>("""
+            local now = tonumber(ARGV[1])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #entries, 2 do
+              local value = entries[i + 1]
+              local sep = string.find(value, ':', 1, true)
+              local expiry = sep and tonumber(string.sub(value, 1, sep - 1), 36) or 0
+              if expiry <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+              else
+                live[#live + 1] = entries[i]
+                live[#live + 1] = value
+              end
+            end
+            return live
+            """, List.class);
+
+    // KEYS[1]=세션 키, ARGV=[deviceId, 읽은 값] → 그사이 값이 바뀌지 않은 경우에만 삭제
+    private static final RedisScript<Long> DELETE_IF_EQUALS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+              return redis.call('HDEL', KEYS[1], ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final DatabaseTokenStorageService databaseTokenStorageService;
+    private final RedisTokenReconciliationService reconciliationService;
+    private final int maxDevices;
+
+    public FallbackSessionStorageService(RedisTemplate<String, String> redisTemplate,
+                                         RedisHealthService redisHealthService,
+                                         DatabaseTokenStorageService databaseTokenStorageService,
+                                         RedisTokenReconciliationService reconciliationService,
+                                         int maxDevices) {
+        this.redisTemplate = redisTemplate;
+        this.redisHealthService = redisHealthService;
+        this.databaseTokenStorageService = databaseTokenStorageService;
+        this.reconciliationService = reconciliationService;
+        this.maxDevices = maxDevices;
+        reconciliationService.registerResyncTask(this::restoreDatabaseSessions);
+    }
+
+    @Override
+    public void saveSession(SessionKey key, String deviceId, String username, String refreshToken, long expirationTime) {
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                long now = System.currentTimeMillis();
+                redisTemplate.execute(SAVE_SCRIPT, List.of(redisKey(key)),
+                        deviceId, encode(now + expirationTime, refreshToken), String.valueOf(now), String.valueOf(maxDevices), "0");
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+            } catch (Exception e) {
+                log.warn("Redis 세션 저장 실패: {}", e.getMessage());
+                redisHealthService.recordFailure(e);
+                saveToDatabase(key, deviceId, username, refreshToken, expirationTime);
+                return;
+            }
+            // 장애 중 DB 에 남긴 같은 기기의 이전 세션이 Redis 필드가 제거된 뒤 다시 인정되지 않도록 삭제
+            databaseTokenStorageService.deleteSession(key, deviceId);
+            log.debug("Session saved to Redis - key: {}, deviceId: {}", key, deviceId);
+            return;
+        }
+
+        saveToDatabase(key, deviceId, username, refreshToken, expirationTime);
+    }
+
+    private void saveToDatabase(SessionKey key, String deviceId, String username, String refreshToken, long expirationTime) {
+        log.info("Redis 세션 저장 실패, DB에 저장합니다. key: {}, deviceId: {}", key, deviceId);
+        databaseTokenStorageService.saveSession(key, deviceId, username, refreshToken, expirationTime);
+        reconciliationService.markDiverged();
+    }
+
+    @Override
+    public String getSession(SessionKey key, String deviceId) {
+        RedisRead read = tryRedisGet(key, deviceId);
+        if (read.value() != null) {
+            return decodeToken(read.value());
+        }
+        if (isAuthoritative(read)) {
+            return null;
+        }
+        return databaseTokenStorageService.getSession(key, deviceId);
+    }
+
+    @Override
+    public boolean matchesSession(SessionKey key, String deviceId, String refreshToken) {
+        RedisRead read = tryRedisGet(key, deviceId);
+        String encoded = read.value();
+        if (encoded != null && TokenDigest.matches(decodeToken(encoded), refreshToken)) {
+            return true;
+        }
+        // Redis 가 기준 저장소이면 Redis 의 응답(없음/다른 값)을 그대로 사용
+        if (isAuthoritative(read)) {
+            return false;
+        }
+        // Redis 에 없거나 다른 값이면 DB 확인 (장애 중 같은 기기로 재로그인한 경우)
+        // Redis 값이 있다면 그보다 나중에 발급된(만료가 늦은) DB 세션만 인정합니다.
+        long redisExpiry = encoded != null ? decodeExpiry(encoded) : Long.MIN_VALUE;
+        return databaseTokenStorageService.findSession(key, deviceId)
+                .filter(token -> TokenDigest.matches(token.getRefreshToken(), refreshToken))
+                .filter(token -> toEpochMillis(token.getExpiresAt()) > redisExpiry)
+                .isPresent();
+    }
+
+    @Override
+    public List<SessionInfo> listSessions(SessionKey key) {
+        Map<String, SessionInfo> sessions = new LinkedHashMap<>();
+        boolean redisRead = false;
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                List<?> entries = redisTemplate.execute(SWEEP_SCRIPT, List.of(redisKey(key)),
+                        String.valueOf(System.currentTimeMillis()));
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+                redisRead = true;
+                if (entries != null) {
+                    for (int i = 0; i + 1 < entries.size(); i += 2) {
+                        String deviceId = String.valueOf(entries.get(i));
+                        sessions.put(deviceId, new SessionInfo(deviceId, decodeExpiry(String.valueOf(entries.get(i + 1)))));
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("Redis 세션 목록 조회 실패: {}", e.getMessage());
+                redisHealthService.recordFailure(e);
+            }
+        }
+        // 장애 중 DB 에만 저장된 세션 병합 (같은 기기는 만료가 늦은 쪽 우선)
+        if (!(redisRead && reconciliationService.isRedisAuthoritative())) {
+            for (SessionInfo session : databaseTokenStorageService.listSessions(key)) {
+                sessions.merge(session.deviceId(), session,
+                        (current, other) -> current.expiresAt() >= other.expiresAt() ? current : other);
+            }
+        }
+        List<SessionInfo> result = new ArrayList<>(sessions.values());
+        result.sort(Comparator.comparingLong(SessionInfo::expiresAt).reversed());
+        return result;
+    }
+
+    @Override
+    public void deleteSession(SessionKey key, String deviceId) {
+        String redisKey = redisKey(key);
+        if (!runRedis("세션 삭제", () -> redisTemplate.opsForHash().delete(redisKey, deviceId))) {
+            reconciliationService.recordMissedKeyDelete(redisKey);
+            reconciliationService.markDiverged();
+        }
+        databaseTokenStorageService.deleteSession(key, deviceId);
+    }
+
+    @Override
+    public void deleteAllSessions(SessionKey key) {
+        String redisKey = redisKey(key);
+        if (!runRedis("세션 전체 삭제", () -> redisTemplate.unlink(redisKey))) {
+            reconciliationService.recordMissedKeyDelete(redisKey);
+            reconciliationService.markDiverged();
+        }
+        databaseTokenStorageService.deleteAllSessions(key);
+    }
+
+    @Override
+    public void deleteTenantSessions(Short tenantId, Collection<Long> userIds) {
+        List<String> redisKeys = userIds.stream()
+                .map(userId -> redisKey(new SessionKey(tenantId, userId)))
+                .toList();
+        if (!redisKeys.isEmpty() && !runRedis("테넌트 세션 삭제", () -> redisTemplate.unlink(redisKeys))) {
+            redisKeys.forEach(reconciliationService::recordMissedKeyDelete);
+            reconciliationService.markDiverged();
+        }
+        databaseTokenStorageService.deleteTenantSessions(tenantId, userIds);
+    }
+
+    /**
+     * 장애 중 DB 에만 저장된 기기 세션을 Redis 로 옮기고 행을 삭제합니다. (재동기화 작업)
+     * Redis 에 만료가 같거나 늦은 값이 있으면 덮어쓰지 않으며, 최대 기기 수도 함께 적용합니다.
+     */
+    void restoreDatabaseSessions() {
+        long lastId = Long.MIN_VALUE;
+        int restored = 0;
+        while (true) {
+            List<RefreshToken> page = databaseTokenStorageService.findValidSessionsAfter(lastId, RESTORE_PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            long now = System.currentTimeMillis();
+            for (RefreshToken token : page) {
+                SessionKey key = new SessionKey(token.getTenantId(), token.getUserId());
+                redisTemplate.execute(SAVE_SCRIPT, List.of(redisKey(key)), token.getDeviceId(),
+                        encode(toEpochMillis(token.getExpiresAt()), token.getRefreshToken()),
+                        String.valueOf(now), String.valueOf(maxDevices), "1");
+            }
+            databaseTokenStorageService.deleteSessionRows(page.stream().map(RefreshToken::getId).toList());
+            restored += page.size();
+            lastId = page.get(page.size() - 1).getId();
+            if (page.size() < RESTORE_PAGE_SIZE) {
+                break;
+            }
+        }
+        if (restored > 0) {
+            log.info("DB 기기 세션 재동기화 완료 - 이동: {}", restored);
+        }
+    }
+
+    private boolean isAuthoritative(RedisRead read) {
+        return read.succeeded() && reconciliationService.isRedisAuthoritative();
+    }
+
+    /**
+     * Redis 에서 기기 세션의 인코딩된 값을 조회합니다. (없거나 만료 시 value 가 null, 장애 시 succeeded 가 false)
+     */
+    private RedisRead tryRedisGet(SessionKey key, String deviceId) {
+        if (!redisHealthService.isRedisHealthy()) {
+            return RedisRead.FAILED;
+        }
+        long started = System.nanoTime();
+        try {
+            String redisKey = redisKey(key);
+            Object value = redisTemplate.opsForHash().get(redisKey, deviceId);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            if (value == null) {
+                return RedisRead.MISS;
+            }
+            String encoded = value.toString();
+            if (decodeExpiry(encoded) <= System.currentTimeMillis()) {
+                // 만료된 필드는 읽은 시점에 정리 (그사이 재로그인으로 바뀐 값은 유지)
+                redisTemplate.execute(DELETE_IF_EQUALS_SCRIPT, List.of(redisKey), deviceId, encoded);
+                return RedisRead.MISS;
+            }
+            return new RedisRead(true, encoded);
+        } catch (Exception e) {
+            log.warn("Redis 세션 조회 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+            return RedisRead.FAILED;
+        }
+    }
+
+    private boolean runRedis(String operation, Runnable command) {
+        if (!redisHealthService.isRedisHealthy()) {
+            return false;
+        }
+        long started = System.nanoTime();
+        try {
+            command.run();
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis {} 실패: {}", operation, e.getMessage());
+            redisHealthService.recordFailure(e);
+            return false;
+        }
+    }
+
+    private static String redisKey(SessionKey key) {
+        return SESSION_KEY_PREFIX + key;
+    }
+
+    private static String encode(long expiresAt, String refreshToken) {
+        return Long.toString(expiresAt, 36) + ":" + refreshToken;
+    }
+
+    private static long decodeExpiry(String encoded) {
+        int separator = encoded.indexOf(':');
+        return separator < 0 ? 0 : Long.parseLong(encoded.substring(0, separator), 36);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String decodeToken(String encoded) {
+        return encoded.substring(encoded.indexOf(':') + 1);
+    }
+
+    private record RedisRead(boolean succeeded, String value) {
+        private static final RedisRead FAILED = new RedisRead(false, null);
+        private static final RedisRead MISS = new RedisRead(true, null);
+    }
+}
@@ -4,6 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @RequiredArgsConstructor
 public class FallbackTokenStorageService implements TokenStorageService {
@@ -11,6 +17,7 @@ public class FallbackTokenStorageService implements TokenStorageService {
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisHealthService redisHealthService;
     private final DatabaseTokenStorageService databaseTokenStorageService;
+    private final RedisTokenReconciliationService reconciliationService;
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
 
     @Override
@@ -20,17 +27,23 @@ public class FallbackTokenStorageService implements TokenStorageService {
             return;
         }
         
-        // Redis 실패 시 DB에 저장
+        // Redis 실패 시 DB에 저장 (DB 에만 있는 토큰이 생기므로 Redis 미스를 기준으로 삼지 않음)
         log.info("Redis 저장 실패, DB에 저장합니다. username: {}", username);
         databaseTokenStorageService.saveRefreshToken(username, refreshToken, expirationTime);
+        reconciliationService.markDiverged();
     }
 
     @Override
     public String getRefreshToken(String username) {
         // 먼저 Redis에서 조회 시도
-        String token = tryRedisGet(username);
-        if (token != null) {
-            return token;
+        RedisRead read = tryRedisGet(username);
+        if (read.value() != null) {
+            return read.value();
+        }
+
+        // 조회에 성공했고 복구 후 재동기화가 끝났다면 Redis 미스는 토큰 없음으로 처리
+        if (read.succeeded() && reconciliationService.isRedisAuthoritative()) {
+            return null;
         }
         
         // Redis에서 조회 실패 시 DB에서 조회
@@ -52,55 +65,172 @@ public class FallbackTokenStorageService implements TokenStorageService {
         if (redisExists != null && redisExists) {
             return true;
         }
+        if (redisExists != null && reconciliationService.isRedisAuthoritative()) {
+            return false;
+        }
         
         // Redis 확인 실패 시 DB에서 확인
         return databaseTokenStorageService.existsRefreshToken(username);
     }
 
+    @Override
+    public void saveAll(Map<String, String> refreshTokens, long expirationTime) {
+        if (refreshTokens.isEmpty()) {
+            return;
+        }
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                RedisTokenStorageService.pipelinedSet(redisTemplate, refreshTokens, expirationTime);
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+                refreshTokens.keySet().forEach(reconciliationService::clearMissedDelete);
+                return;
+            } catch (Exception e) {
+                log.warn("Redis 일괄 저장 실패: {}", e.getMessage());
+                redisHealthService.recordFailure(e);
+            }
+        }
+
+        log.info("Redis 일괄 저장 실패, DB에 저장합니다. count: {}", refreshTokens.size());
+        databaseTokenStorageService.saveAll(refreshTokens, expirationTime);
+        reconciliationService.markDiverged();
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Map.of();
+        }
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                Map<String, String> result = RedisTokenStorageService.multiGet(redisTemplate, usernames);
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+                if (result.size() == usernames.size() || reconciliationService.isRedisAuthoritative()) {
+                    return result;
+                }
+                // Redis 에 없는 사용자만 DB 에서 조회
+                List<String> misses = new ArrayList<>(usernames);
+                misses.removeAll(result.keySet());
+                result.putAll(databaseTokenStorageService.getAll(misses));
+                return result;
+            } catch (Exception e) {
+                log.warn("Redis 일괄 조회 실패: {}", e.getMessage());
+                redisHealthService.recordFailure(e);
+            }
+        }
+        return databaseTokenStorageService.getAll(usernames);
+    }
+
+    @Override
+    public void deleteAll(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return;
+        }
+        // Redis와 DB 모두에서 삭제
+        boolean redisDeleted = false;
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                RedisTokenStorageService.unlink(redisTemplate, usernames);
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+                redisDeleted = true;
+            } catch (Exception e) {
+                log.warn("Redis 일괄 삭제 실패: {}", e.getMessage());
+                redisHealthService.recordFailure(e);
+            }
+        }
+        if (!redisDeleted) {
+            usernames.forEach(reconciliationService::recordMissedDelete);
+            reconciliationService.markDiverged();
+        }
+        databaseTokenStorageService.deleteAll(usernames);
+    }
+
+    @Override
+    public Set<String> existsAll(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+        if (redisHealthService.isRedisHealthy()) {
+            long started = System.nanoTime();
+            try {
+                Set<String> result = RedisTokenStorageService.pipelinedExists(redisTemplate, usernames);
+                redisHealthService.recordSuccess(System.nanoTime() - started);
+                if (result.size() == usernames.size() || reconciliationService.isRedisAuthoritative()) {
+                    return result;
+                }
+                List<String> misses = new ArrayList<>(usernames);
+                misses.removeAll(result);
+                result.addAll(databaseTokenStorageService.existsAll(misses));
+                return result;
+            } catch (Exception e) {
+                log.warn("Redis 일괄 존재 확인 실패: {}", e.getMessage());
+                redisHealthService.recordFailure(e);
+            }
+        }
+        return databaseTokenStorageService.existsAll(usernames);
+    }
+
     private boolean tryRedisSave(String username, String refreshToken, long expirationTime) {
         try {
             if (!redisHealthService.isRedisHealthy()) {
                 return false;
             }
             
+            long started = System.nanoTime();
             String key = REFRESH_TOKEN_PREFIX + username;
             redisTemplate.opsForValue().set(key, refreshToken, java.time.Duration.ofMillis(expirationTime));
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            reconciliationService.clearMissedDelete(username);
             log.debug("Refresh token saved to Redis for user: {}", username);
             return true;
         } catch (Exception e) {
             log.warn("Redis 저장 실패: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
+            redisHealthService.recordFailure(e);
             return false;
         }
     }
 
-    private String tryRedisGet(String username) {
+    /**
+     * Redis 조회 결과 (조회 실패와 키 없음을 구분)
+     */
+    private RedisRead tryRedisGet(String username) {
         try {
             if (!redisHealthService.isRedisHealthy()) {
-                return null;
+                return RedisRead.FAILED;
             }
             
+            long started = System.nanoTime();
             String key = REFRESH_TOKEN_PREFIX + username;
-            return redisTemplate.opsForValue().get(key);
+            String token = redisTemplate.opsForValue().get(key);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return new RedisRead(true, token);
         } catch (Exception e) {
             log.warn("Redis 조회 실패: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
-            return null;
+            redisHealthService.recordFailure(e);
+            return RedisRead.FAILED;
         }
     }
 
     private void tryRedisDelete(String username) {
         try {
             if (!redisHealthService.isRedisHealthy()) {
+                reconciliationService.recordMissedDelete(username);
+                reconciliationService.markDiverged();
                 return;
             }
             
+            long started = System.nanoTime();
             String key = REFRESH_TOKEN_PREFIX + username;
             redisTemplate.delete(key);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
             log.debug("Refresh token deleted from Redis for user: {}", username);
         } catch (Exception e) {
             log.warn("Redis 삭제 실패: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
+            redisHealthService.recordFailure(e);
+            reconciliationService.recordMissedDelete(username);
+            reconciliationService.markDiverged();
         }
     }
 
@@ -110,12 +240,19 @@ public class FallbackTokenStorageService implements TokenStorageService {
                 return null;
             }
             
+            long started = System.nanoTime();
             String key = REFRESH_TOKEN_PREFIX + username;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            boolean exists = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return exists;
         } catch (Exception e) {
             log.warn("Redis 존재 확인 실패: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
+            redisHealthService.recordFailure(e);
             return null;
         }
     }
-} 
\ No newline at end of file
+
+    private record RedisRead(boolean succeeded, String value) {
+        private static final RedisRead FAILED = new RedisRead(false, null);
+    }
+}
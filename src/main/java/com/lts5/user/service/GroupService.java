@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,10 +33,14 @@ public class GroupService extends BaseService{
     private final DynamicFieldQueryUtil dynamicFieldQueryUtil;
     private final GroupRoleRepository groupRoleRepository;
     private final RoleRepository roleRepository;
+    private final PermissionIndexService permissionIndexService;
+    private final AutocompleteService autocompleteService;
+
     @Transactional
     public GroupDto create(GroupDto dto) {
         Group entity = dto.toEntity();
         Group savedEntity = groupRepository.save(entity);
+        autocompleteService.onChanged(AutocompleteService.Target.GROUP, List.of(savedEntity.getId()));
         return savedEntity.toDto();
     }
 
@@ -46,6 +51,7 @@ public class GroupService extends BaseService{
                 .toList();
         
         List<Group> savedEntities = groupRepository.saveAll(entities);
+        autocompleteService.onChanged(AutocompleteService.Target.GROUP, savedEntities.stream().map(Group::getId).toList());
         return savedEntities.stream()
                 .map(Group::toDto)
                 .toList();
@@ -54,14 +60,18 @@ public class GroupService extends BaseService{
     @Transactional
     public GroupDto update(Long id, GroupDto dto) {
         dto.setId(id);  // DTO에 ID 설정
-        return updateSingle(dto);
+        GroupDto updated = updateSingle(dto);
+        autocompleteService.onChanged(AutocompleteService.Target.GROUP, List.of(id));
+        return updated;
     }
     
     @Transactional
     public List<GroupDto> updateAll(List<GroupDto> dtos) {
-        return dtos.stream()
+        List<GroupDto> updated = dtos.stream()
                 .map(this::updateSingle)
                 .toList();
+        autocompleteService.onChanged(AutocompleteService.Target.GROUP, updated.stream().map(GroupDto::getId).toList());
+        return updated;
     }
 
     @Transactional
@@ -81,6 +91,7 @@ public class GroupService extends BaseService{
             entity.setDelete();
         }
         groupRepository.saveAll(existingEntities);
+        autocompleteService.onChanged(AutocompleteService.Target.GROUP, ids);
     }
 
     public List<?> getFieldValues(String fieldName, GroupSearchRequest searchRequest) {
@@ -96,6 +107,11 @@ public class GroupService extends BaseService{
                 .map(Group::toDto);
     }
 
+    public Slice<GroupDto> searchSlice(GroupSearchRequest searchRequest, Pageable pageable) {
+        return groupRepository.searchSlice(searchRequest, pageable)
+                .map(Group::toDto);
+    }
+
     @Transactional
     public void addRolesToGroup(Long id, List<Long> roleIds) {
         Group group = groupRepository.findById(id)
@@ -112,6 +128,9 @@ public class GroupService extends BaseService{
                     .build();
             groupRoleRepository.save(groupRole);
         }
+
+        // 그룹 구성원의 권한 인덱스 무효화
+        permissionIndexService.evictGroup(id);
     }
 
     @Transactional
@@ -132,6 +151,9 @@ public class GroupService extends BaseService{
                             String.format("Id 가 %d인 GroupRole 데이터가 없습니다.", id)));
             groupRoleRepository.deleteByIdGroupIdAndIdRoleId(id, roleId);
         }
+
+        // 그룹 구성원의 권한 인덱스 무효화
+        permissionIndexService.evictGroup(id);
     }
 
     // ==================== 유틸리티 메서드 ====================
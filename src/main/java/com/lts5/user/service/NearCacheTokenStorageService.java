@@ -0,0 +1,260 @@
+package com.lts5.user.service;
+
+import com.lts5.user.util.RedisPipeline;
+import com.lts5.user.util.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 파드 내 refresh token 근접 캐시 (Redis/DB 저장소 앞단)
+ * - username → refresh token 을 최대 크기(LRU)와 TTL(토큰 만료 시각 이내)로 보관하여 refresh/logout 조회를 메모리에서 처리합니다.
+ * - 저장/삭제 시 Redis pub/sub 으로 다른 파드의 캐시 항목을 무효화합니다.
+ * - 캐시 값이 요청 토큰과 다르면 원본 저장소로 다시 확인하므로, 다른 파드에서 재로그인한 토큰도 바로 인식합니다.
+ * - Redis 장애로 무효화가 전파되지 않는 동안 다른 파드의 로그아웃은 최대 TTL 만큼 늦게 반영됩니다.
+ * - 삭제는 원본 저장소에서 먼저 지운 뒤 캐시를 무효화하며, 키별(스트라이프) 세대를 올려
+ *   무효화 이전에 시작된 원본 조회 결과가 캐시에 다시 저장되지 않도록 합니다.
+ */
+@Slf4j
+public class NearCacheTokenStorageService implements TokenStorageService, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "auth:refresh-token-invalidate";
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final TokenStorageService delegate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final long ttlMillis;
+    // 자신이 보낸 무효화 메시지를 구분하기 위한 인스턴스 ID
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, CachedToken> entries;
+    // 키 해시별 무효화 세대 (저장/삭제/무효화 메시지마다 증가)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public NearCacheTokenStorageService(TokenStorageService delegate,
+                                        RedisTemplate<String, String> redisTemplate,
+                                        RedisHealthService redisHealthService,
+                                        int maxSize,
+                                        long ttlMillis) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.redisHealthService = redisHealthService;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedToken> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public void saveRefreshToken(String username, String refreshToken, long expirationTime) {
+        delegate.saveRefreshToken(username, refreshToken, expirationTime);
+        long now = System.currentTimeMillis();
+        replace(username, new CachedToken(refreshToken, Math.min(now + ttlMillis, now + expirationTime)));
+        publishInvalidation(username);
+    }
+
+    @Override
+    public String getRefreshToken(String username) {
+        CachedToken cached = get(username);
+        if (cached != null) {
+            return cached.refreshToken();
+        }
+        return load(username);
+    }
+
+    @Override
+    public boolean matchesRefreshToken(String username, String refreshToken) {
+        CachedToken cached = get(username);
+        if (cached != null && TokenDigest.matches(cached.refreshToken(), refreshToken)) {
+            return true;
+        }
+        // 캐시에 없거나 다른 값이면 원본 저장소로 확인 (다른 파드에서 갱신된 경우)
+        String stored = load(username);
+        return TokenDigest.matches(stored, refreshToken);
+    }
+
+    @Override
+    public void deleteRefreshToken(String username) {
+        // 원본 삭제 전에 캐시를 비우면 그 사이의 조회가 폐기된 토큰을 다시 캐시할 수 있으므로 원본부터 삭제
+        delegate.deleteRefreshToken(username);
+        invalidate(username);
+        publishInvalidation(username);
+    }
+
+    @Override
+    public boolean existsRefreshToken(String username) {
+        CachedToken cached = get(username);
+        if (cached != null) {
+            return cached.refreshToken() != null;
+        }
+        return load(username) != null;
+    }
+
+    @Override
+    public void saveAll(Map<String, String> refreshTokens, long expirationTime) {
+        delegate.saveAll(refreshTokens, expirationTime);
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(now + ttlMillis, now + expirationTime);
+        refreshTokens.forEach((username, refreshToken) -> replace(username, new CachedToken(refreshToken, expiresAt)));
+        publishInvalidations(refreshTokens.keySet());
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> usernames) {
+        Map<String, String> result = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String username : usernames) {
+            CachedToken cached = get(username);
+            if (cached == null) {
+                misses.add(username);
+            } else if (cached.refreshToken() != null) {
+                result.put(username, cached.refreshToken());
+            }
+        }
+        if (!misses.isEmpty()) {
+            long[] observed = new long[misses.size()];
+            for (int i = 0; i < misses.size(); i++) {
+                observed[i] = generation(misses.get(i));
+            }
+            Map<String, String> loaded = delegate.getAll(misses);
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            for (int i = 0; i < misses.size(); i++) {
+                String username = misses.get(i);
+                String refreshToken = loaded.get(username);
+                putIfCurrent(username, observed[i], new CachedToken(refreshToken, expiresAt));
+                if (refreshToken != null) {
+                    result.put(username, refreshToken);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteAll(Collection<String> usernames) {
+        delegate.deleteAll(usernames);
+        usernames.forEach(this::invalidate);
+        publishInvalidations(usernames);
+    }
+
+    @Override
+    public Set<String> existsAll(Collection<String> usernames) {
+        return new LinkedHashSet<>(getAll(usernames).keySet());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        invalidate(body.substring(separator + 1));
+    }
+
+    /**
+     * 원본 저장소에서 조회한 값을 캐시합니다. (없는 경우도 TTL 동안 캐시하여 장애 시 DB 조회 폭주를 막음)
+     */
+    private String load(String username) {
+        long observed = generation(username);
+        String refreshToken = delegate.getRefreshToken(username);
+        putIfCurrent(username, observed, new CachedToken(refreshToken, System.currentTimeMillis() + ttlMillis));
+        return refreshToken;
+    }
+
+    private synchronized CachedToken get(String username) {
+        CachedToken cached = entries.get(username);
+        if (cached != null && cached.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(username);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 조회 시작 이후 무효화가 없었을 때만 저장합니다.
+     */
+    private synchronized void putIfCurrent(String username, long observedGeneration, CachedToken cachedToken) {
+        if (generations.get(stripe(username)) == observedGeneration) {
+            entries.put(username, cachedToken);
+        }
+    }
+
+    /**
+     * 이 파드에서 저장한 새 값으로 교체합니다. (진행 중인 이전 조회 결과는 저장되지 않음)
+     */
+    private synchronized void replace(String username, CachedToken cachedToken) {
+        generations.incrementAndGet(stripe(username));
+        entries.put(username, cachedToken);
+    }
+
+    private synchronized void invalidate(String username) {
+        generations.incrementAndGet(stripe(username));
+        entries.remove(username);
+    }
+
+    private long generation(String username) {
+        return generations.get(stripe(username));
+    }
+
+    private static int stripe(String username) {
+        return Math.floorMod(username.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void publishInvalidation(String username) {
+        if (!redisHealthService.isRedisHealthy()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + ":" + username);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+        } catch (Exception e) {
+            log.warn("Refresh token 캐시 무효화 전파 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+        }
+    }
+
+    /**
+     * 여러 사용자의 무효화 메시지를 파이프라인으로 한 번에 전파합니다. (Cluster 에서는 순차 전송)
+     */
+    private void publishInvalidations(Collection<String> usernames) {
+        if (usernames.isEmpty() || !redisHealthService.isRedisHealthy()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+            RedisPipeline.execute(redisTemplate, (RedisCallback<Object>) connection -> {
+                for (String username : usernames) {
+                    connection.publish(channel, (instanceId + ":" + username).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+        } catch (Exception e) {
+            log.warn("Refresh token 캐시 일괄 무효화 전파 실패: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+        }
+    }
+
+    private record CachedToken(String refreshToken, long expiresAt) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.lts5.user.service;
+
+import com.lts5.user.exception.LoginOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로그인 비밀번호 검증 전용 실행기
+ * - BCrypt 검증/재해시를 CPU 코어 수 크기의 전용 스레드 풀에서 실행하여 요청 스레드가 해시 계산에 묶이지 않도록 합니다.
+ * - 대기열(queue-capacity)이 가득 차거나 대기 시간이 wait-timeout-millis 를 넘으면 LoginOverloadedException(503)으로 즉시 실패합니다.
+ * - 메트릭: auth.login.executor.queue.size, auth.login.executor.active, auth.login.executor.wait, auth.login.executor.rejected
+ */
+@Slf4j
+@Service
+public class PasswordVerificationService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+    private final long waitTimeoutMillis;
+    private final long retryAfterSeconds;
+
+    public PasswordVerificationService(PasswordEncoder passwordEncoder,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.login-executor.threads:0}") int threads,
+                                       @Value("${app.login-executor.queue-capacity:100}") int queueCapacity,
+                                       @Value("${app.login-executor.wait-timeout-millis:10000}") long waitTimeoutMillis,
+                                       @Value("${app.login-executor.retry-after-seconds:5}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.login.executor.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 검증 중인 스레드 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.login.executor.wait")
+                .description("비밀번호 검증 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.executor.rejected")
+                .description("대기열 초과로 거부된 로그인 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 검증 실행기 초기화 - threads: {}, queueCapacity: {}", poolSize, queueCapacity);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginOverloadedException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginOverloadedException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 검증에 실패했습니다.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
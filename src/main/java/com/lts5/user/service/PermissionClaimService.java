@@ -0,0 +1,106 @@
+package com.lts5.user.service;
+
+import com.lts5.user.repository.permission.PermissionResolutionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 권한 클레임 생성
+ * - perms: 테넌트 권한 사전(삭제되지 않은 권한을 ID 순으로 정렬한 코드 목록)에 대한 비트셋을 base64url(패딩 없음)로 인코딩한 값
+ *   (i 번째 코드 보유 시 i / 8 번째 바이트의 i % 8 번째 비트(LSB 기준)가 1)
+ * - perm_ver: 토큰 발급 시점의 RBAC 버전. 리소스 서버는 알고 있는 버전과 같으면 perms 로 직접 인가하고,
+ *   다르면 사전을 다시 받거나 /auth/check 로 확인합니다.
+ * - RBAC 버전을 확인할 수 없으면(Redis 장애) 두 클레임을 모두 생략하며, 리소스 서버는 /auth/check 로 확인합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionClaimService {
+
+    public static final String PERMISSIONS_CLAIM = "perms";
+    public static final String PERMISSION_VERSION_CLAIM = "perm_ver";
+
+    private final PermissionResolutionRepository permissionResolutionRepository;
+    private final PermissionVersionService permissionVersionService;
+
+    @Value("${app.permission-claims.enabled:false}")
+    private boolean enabled;
+
+    private final Map<Short, PermissionDictionary> dictionaries = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자의 권한 클레임(perms, perm_ver)을 생성합니다.
+     * 버전을 먼저 읽어, 조회 도중 변경이 발생하면 토큰이 이전 버전으로 표시되도록 합니다.
+     * @return 권한 클레임 (RBAC 버전을 확인할 수 없으면 빈 Map)
+     */
+    public Map<String, Object> createClaims(Long userId, Short tenantId) {
+        OptionalLong version = permissionVersionService.currentVersion(tenantId);
+        if (version.isEmpty()) {
+            log.debug("RBAC 버전 확인 불가, 권한 클레임 생략 - userId: {}", userId);
+            return Map.of();
+        }
+        PermissionDictionary dictionary = getDictionary(tenantId, version.getAsLong());
+        // 다른 파드의 변경이 반영되지 않았을 수 있는 권한 인덱스 대신 DB 에서 직접 조회
+        Set<String> grantedCodes = new HashSet<>(permissionResolutionRepository.findPermissionCodes(userId));
+
+        List<String> codes = dictionary.codes();
+        BitSet bits = new BitSet(codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            if (grantedCodes.contains(codes.get(i))) {
+                bits.set(i);
+            }
+        }
+
+        return Map.of(
+                PERMISSIONS_CLAIM, Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray()),
+                PERMISSION_VERSION_CLAIM, version.getAsLong()
+        );
+    }
+
+    /**
+     * 테넌트 권한 사전을 현재 버전 기준으로 반환합니다.
+     * RBAC 버전을 확인할 수 없으면 버전 없이(null) 현재 사전을 반환합니다.
+     */
+    public PermissionDictionary getDictionary(Short tenantId) {
+        OptionalLong version = permissionVersionService.currentVersion(tenantId);
+        if (version.isEmpty()) {
+            return new PermissionDictionary(null,
+                    List.copyOf(permissionResolutionRepository.findTenantPermissionCodes(tenantId)));
+        }
+        return getDictionary(tenantId, version.getAsLong());
+    }
+
+    private PermissionDictionary getDictionary(Short tenantId, long version) {
+        PermissionDictionary cached = dictionaries.get(tenantId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        PermissionDictionary loaded = new PermissionDictionary(version,
+                List.copyOf(permissionResolutionRepository.findTenantPermissionCodes(tenantId)));
+        // 늦게 끝난 이전 버전 조회가 더 새로운 사전을 덮어쓰지 않도록 버전이 더 클 때만 교체
+        dictionaries.merge(tenantId, loaded,
+                (current, incoming) -> incoming.version() > current.version() ? incoming : current);
+        return loaded;
+    }
+
+    /**
+     * @param version RBAC 버전 (확인할 수 없으면 null)
+     */
+    public record PermissionDictionary(Long version, List<String> codes) {
+    }
+}
@@ -0,0 +1,193 @@
+package com.lts5.user.service;
+
+import com.lts5.user.repository.permission.PermissionResolutionRepository;
+import com.lts5.user.repository.relation.GroupRoleRepository;
+import com.lts5.user.repository.relation.UserGroupRepository;
+import com.lts5.user.repository.relation.UserRoleRepository;
+import com.lts5.user.repository.user.UserRepository;
+import com.primes.library.common.codes.ErrorCode;
+import com.primes.library.common.exceptions.EntityNotFoundException;
+import com.primes.library.filter.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 유효 권한 코드 인덱스
+ * - 사용자 → 권한 코드 집합을 메모리에 보관하여 권한 확인을 해시 조회로 처리합니다.
+ * - 역할/그룹/권한 관계가 바뀌면 영향받는 사용자만 무효화하고, 다음 조회 시 다시 구성합니다.
+ * - 다른 파드에서 발생한 변경은 TTL(app.permission-index.ttl-millis) 이내에 반영됩니다.
+ * - 인덱스 미스 시 PermissionResolutionRepository 단일 쿼리로 권한 코드를 구성합니다.
+ * - 무효화 시 요청 테넌트의 RBAC 버전(perm_ver)도 함께 증가시킵니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionIndexService {
+
+    private final UserRepository userRepository;
+    private final UserGroupRepository userGroupRepository;
+    private final GroupRoleRepository groupRoleRepository;
+    private final UserRoleRepository userRoleRepository;
+    private final PermissionResolutionRepository permissionResolutionRepository;
+    private final PermissionVersionService permissionVersionService;
+
+    @Value("${app.permission-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.permission-index.ttl-millis:60000}")
+    private long ttlMillis;
+
+    private final Map<Long, PermissionEntry> entries = new ConcurrentHashMap<>();
+    // 무효화가 발생할 때마다 증가시켜, 무효화 이전에 시작된 조회 결과가 인덱스에 저장되지 않도록 합니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 사용자의 유효 권한 코드 집합을 반환합니다.
+     * @param userId 사용자 ID
+     * @return 권한 코드 집합 (읽기 전용)
+     */
+    public Set<String> getPermissionCodes(Long userId) {
+        if (!enabled) {
+            return loadPermissionCodes(userId);
+        }
+
+        PermissionEntry entry = entries.get(userId);
+        if (entry != null && !entry.isExpired(ttlMillis)) {
+            return entry.codes();
+        }
+
+        long observedGeneration = generation.get();
+        Set<String> codes = loadPermissionCodes(userId);
+        if (generation.get() == observedGeneration) {
+            entries.put(userId, new PermissionEntry(codes, System.currentTimeMillis()));
+        }
+        return codes;
+    }
+
+    /**
+     * 사용자가 해당 권한 코드를 가지고 있는지 확인합니다.
+     * 인덱스가 비활성화된 경우 EXISTS 단일 쿼리로 확인합니다.
+     */
+    public boolean hasPermission(Long userId, String code) {
+        if (!enabled) {
+            if (permissionResolutionRepository.hasPermission(userId, code)) {
+                return true;
+            }
+            ensureUserExists(userId);
+            return false;
+        }
+        return getPermissionCodes(userId).contains(code);
+    }
+
+    /**
+     * 사용자 한 명의 인덱스를 무효화합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void evictUser(Long userId) {
+        evictUsers(List.of(userId));
+    }
+
+    /**
+     * 여러 사용자의 인덱스를 무효화합니다. (트랜잭션 커밋 이후 반영)
+     */
+    public void evictUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        Short tenantId = TenantContext.getTenantId();
+        runAfterCommit(() -> {
+            generation.incrementAndGet();
+            userIds.forEach(entries::remove);
+            permissionVersionService.bump(tenantId);
+            log.debug("권한 인덱스 무효화 - userIds: {}", userIds);
+        });
+    }
+
+    /**
+     * 그룹에 속한 사용자들의 인덱스를 무효화합니다.
+     */
+    public void evictGroup(Long groupId) {
+        evictUsers(userGroupRepository.findUserIdsByGroupIds(List.of(groupId)));
+    }
+
+    /**
+     * 역할을 직접 또는 그룹을 통해 가진 사용자들의 인덱스를 무효화합니다.
+     */
+    public void evictRole(Long roleId) {
+        Set<Long> userIds = new HashSet<>(userRoleRepository.findUserIdsByRoleId(roleId));
+        List<Long> groupIds = groupRoleRepository.findGroupIdsByRoleId(roleId);
+        if (!groupIds.isEmpty()) {
+            userIds.addAll(userGroupRepository.findUserIdsByGroupIds(groupIds));
+        }
+        evictUsers(userIds);
+    }
+
+    /**
+     * 전체 인덱스를 무효화합니다. (권한 코드 변경/삭제 등 영향 범위가 넓은 경우)
+     */
+    public void evictAll() {
+        Short tenantId = TenantContext.getTenantId();
+        runAfterCommit(() -> {
+            generation.incrementAndGet();
+            entries.clear();
+            permissionVersionService.bump(tenantId);
+            log.debug("권한 인덱스 전체 무효화");
+        });
+    }
+
+    /**
+     * 사용자 권한에는 영향이 없지만 권한 사전이 바뀌는 경우(권한 생성) RBAC 버전만 증가시킵니다.
+     */
+    public void bumpVersion() {
+        Short tenantId = TenantContext.getTenantId();
+        runAfterCommit(() -> permissionVersionService.bump(tenantId));
+    }
+
+    /**
+     * 직접 할당 역할과 그룹 역할을 합친 권한 코드를 단일 쿼리로 조회합니다.
+     */
+    private Set<String> loadPermissionCodes(Long userId) {
+        Set<String> codes = Set.copyOf(permissionResolutionRepository.findPermissionCodes(userId));
+        if (codes.isEmpty()) {
+            // 권한이 없는 경우에만 사용자 존재 여부를 확인합니다.
+            ensureUserExists(userId);
+        }
+        return codes;
+    }
+
+    private void ensureUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다.");
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record PermissionEntry(Set<String> codes, long loadedAt) {
+        boolean isExpired(long ttlMillis) {
+            return System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,48 +17,25 @@ import com.primes.library.common.codes.ErrorCode;
 import com.primes.library.common.exceptions.EntityNotFoundException;
 import com.primes.library.service.BaseService;
 import com.primes.library.util.DynamicFieldQueryUtil;
-import com.querydsl.core.BooleanBuilder;
 
 import lombok.RequiredArgsConstructor;
 
-import static com.lts5.user.entity.QPermission.permission;
-
 @Service
 @RequiredArgsConstructor
 public class PermissionService extends BaseService{
 
     private final PermissionRepository permissionRepository;
     private final DynamicFieldQueryUtil dynamicFieldQueryUtil;
+    private final PermissionIndexService permissionIndexService;
+    private final AutocompleteService autocompleteService;
 
     public Page<PermissionDto> search(PermissionSearchRequest searchRequest, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        if (searchRequest != null) {
-            if (searchRequest.getId() != null) {
-                builder.and(permission.id.eq(searchRequest.getId()));
-            }
-            if (searchRequest.getIsDelete() != null) {
-                builder.and(permission.isDelete.eq(searchRequest.getIsDelete()));
-            } else {
-                builder.and(permission.isDelete.eq(false));
-            }
-            if (searchRequest.getCode() != null && !searchRequest.getCode().isBlank()) {
-                builder.and(permission.code.containsIgnoreCase(searchRequest.getCode()));
-            }
-            if (searchRequest.getDescription() != null && !searchRequest.getDescription().isBlank()) {
-                builder.and(permission.description.containsIgnoreCase(searchRequest.getDescription()));
-            }
-            if (searchRequest.getServiceName() != null && !searchRequest.getServiceName().isBlank()) {
-                builder.and(permission.serviceName.containsIgnoreCase(searchRequest.getServiceName()));
-            }
-            if (searchRequest.getTenantId() != null) {
-                builder.and(permission.tenantId.eq(searchRequest.getTenantId()));
-            }
-        } else {
-            builder.and(permission.isDelete.eq(false));
-        }
+        return permissionRepository.search(searchRequest != null ? searchRequest : new PermissionSearchRequest(), pageable)
+                .map(Permission::toDto);
+    }
 
-        return permissionRepository.findAll(builder, pageable)
+    public Slice<PermissionDto> searchSlice(PermissionSearchRequest searchRequest, Pageable pageable) {
+        return permissionRepository.searchSlice(searchRequest != null ? searchRequest : new PermissionSearchRequest(), pageable)
                 .map(Permission::toDto);
     }
 
@@ -65,6 +43,9 @@ public class PermissionService extends BaseService{
     public PermissionDto create(PermissionDto dto) {
         Permission entity = dto.toEntity();
         Permission saved = permissionRepository.save(entity);
+        autocompleteService.onChanged(AutocompleteService.Target.PERMISSION, List.of(saved.getId()));
+        // 권한 사전이 바뀌므로 RBAC 버전 증가
+        permissionIndexService.bumpVersion();
         return saved.toDto();
     }
 
@@ -74,18 +55,28 @@ public class PermissionService extends BaseService{
                 .map(PermissionDto::toEntity)
                 .toList();
         List<Permission> saved = permissionRepository.saveAll(entities);
+        autocompleteService.onChanged(AutocompleteService.Target.PERMISSION, saved.stream().map(Permission::getId).toList());
+        permissionIndexService.bumpVersion();
         return saved.stream().map(Permission::toDto).toList();
     }
 
     @Transactional
     public PermissionDto update(Long id, PermissionDto dto) {
         dto.setId(id);
-        return updateSingle(dto);
+        PermissionDto updated = updateSingle(dto);
+        autocompleteService.onChanged(AutocompleteService.Target.PERMISSION, List.of(id));
+        // 권한 코드 변경은 여러 사용자에 영향을 주므로 전체 인덱스 무효화
+        permissionIndexService.evictAll();
+        return updated;
     }
 
     @Transactional
     public List<PermissionDto> updateAll(List<PermissionDto> dtos) {
-        return dtos.stream().map(this::updateSingle).toList();
+        List<PermissionDto> updated = dtos.stream().map(this::updateSingle).toList();
+        autocompleteService.onChanged(AutocompleteService.Target.PERMISSION, updated.stream().map(PermissionDto::getId).toList());
+        // 권한 코드 변경은 여러 사용자에 영향을 주므로 전체 인덱스 무효화
+        permissionIndexService.evictAll();
+        return updated;
     }
 
     @Transactional
@@ -103,6 +94,8 @@ public class PermissionService extends BaseService{
             entity.setDelete();
         }
         permissionRepository.saveAll(existing);
+        autocompleteService.onChanged(AutocompleteService.Target.PERMISSION, ids);
+        permissionIndexService.evictAll();
     }
 
     public List<?> getFieldValues(String fieldName, PermissionSearchRequest searchRequest) {
@@ -0,0 +1,126 @@
+package com.lts5.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RBAC 버전(perm_ver) 관리
+ * - 테넌트별 버전(rbac:perm_ver:{tenantId})과 테넌트를 알 수 없는 변경용 전역 버전(rbac:perm_ver)의 합을 사용합니다.
+ *   두 값 모두 Redis INCR 로만 증가하므로 합도 단조 증가합니다.
+ * - Redis 에서 읽지 못하면 버전을 제공하지 않으며, 이때는 perms/perm_ver 클레임을 발급하지 않습니다.
+ *   (파드별 로컬 카운터는 파드마다 같은 버전이 서로 다른 권한 집합을 가리킬 수 있어 사용하지 않음)
+ * - 증가에 실패한 키는 재시도 대상으로 남기고, 증가에 성공할 때까지 이 파드에서는 해당 테넌트 버전을 제공하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PermissionVersionService {
+
+    private static final String PERMISSION_VERSION_KEY = "rbac:perm_ver";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+
+    @Value("${app.permission-claims.enabled:false}")
+    private boolean enabled;
+
+    // 증가에 실패해 다시 시도해야 하는 버전 키
+    private final Set<String> pendingBumps = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 테넌트의 현재 RBAC 버전을 반환합니다.
+     * 권한 클레임 비활성화 시에는 클레임을 발급하지 않으므로 0 을 반환합니다.
+     * @return RBAC 버전, Redis 에서 확인할 수 없으면 빈 값
+     */
+    public OptionalLong currentVersion(Short tenantId) {
+        if (!enabled) {
+            return OptionalLong.of(0);
+        }
+        if (!redisHealthService.isRedisHealthy() || !retryPendingBumps()) {
+            return OptionalLong.empty();
+        }
+        String tenantKey = versionKey(tenantId);
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(PERMISSION_VERSION_KEY, tenantKey));
+            if (values == null) {
+                return OptionalLong.empty();
+            }
+            long version = 0;
+            for (String value : values) {
+                if (value != null) {
+                    version += Long.parseLong(value);
+                }
+            }
+            return OptionalLong.of(version);
+        } catch (Exception e) {
+            log.warn("권한 버전 조회 실패, 권한 클레임 생략: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * 테넌트의 RBAC 버전을 증가시킵니다. (tenantId 가 없으면 전역 버전 증가)
+     */
+    public void bump(Short tenantId) {
+        if (!enabled) {
+            return;
+        }
+        String key = versionKey(tenantId);
+        if (!redisHealthService.isRedisHealthy()) {
+            pendingBumps.add(key);
+            return;
+        }
+        if (!increment(key)) {
+            pendingBumps.add(key);
+        }
+    }
+
+    /**
+     * 실패한 버전 증가를 재시도합니다. (Redis 복구 후 요청이 없어도 반영되도록 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${app.permission-claims.retry-millis:10000}")
+    public void retryPendingBumpsPeriodically() {
+        if (enabled && !pendingBumps.isEmpty() && redisHealthService.isRedisHealthy()) {
+            retryPendingBumps();
+        }
+    }
+
+    /**
+     * @return 재시도 대상이 모두 반영되었는지 여부
+     */
+    private boolean retryPendingBumps() {
+        for (String key : List.copyOf(pendingBumps)) {
+            if (!increment(key)) {
+                return false;
+            }
+            pendingBumps.remove(key);
+        }
+        return true;
+    }
+
+    private boolean increment(String key) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(key);
+            log.debug("권한 버전 증가 - key: {}, version: {}", key, version);
+            return true;
+        } catch (Exception e) {
+            log.warn("권한 버전 증가 실패, 재시도 대기: {}", e.getMessage());
+            redisHealthService.recordFailure(e);
+            return false;
+        }
+    }
+
+    private static String versionKey(Short tenantId) {
+        return tenantId != null ? PERMISSION_VERSION_KEY + ":" + tenantId : PERMISSION_VERSION_KEY;
+    }
+}
@@ -1,56 +1,140 @@
 package com.lts5.user.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Redis 서킷 브레이커
+ * - CLOSED: 모든 Redis 호출 허용. 최근 window-size 건 중 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN 으로 전환합니다.
+ * - OPEN: Redis 호출을 차단하여 호출자가 즉시 DB 로 대체하도록 합니다. wait-open-millis 이후 HALF_OPEN 으로 전환합니다.
+ * - HALF_OPEN: 요청 스레드는 계속 차단하고, 스케줄러가 백그라운드로 프로브를 보내 half-open-probes 회 연속 성공하면 CLOSED 로 복구합니다.
+ * 요청 스레드에서 재연결을 기다리지 않습니다.
+ * OPEN 이후 CLOSED 로 복구되면 RedisRecoveredEvent 를 발행합니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisHealthService {
 
+    public enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
     private final RedisTemplate<String, String> redisTemplate;
-    private final AtomicBoolean isRedisHealthy = new AtomicBoolean(true);
-    private final AtomicBoolean isReconnecting = new AtomicBoolean(false);
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.redis.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${app.redis.circuit-breaker.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${app.redis.circuit-breaker.slow-call-threshold-millis:1000}")
+    private long slowCallThresholdMillis;
+
+    @Value("${app.redis.circuit-breaker.slow-call-rate-threshold:80}")
+    private int slowCallRateThreshold;
+
+    @Value("${app.redis.circuit-breaker.wait-open-millis:10000}")
+    private long waitOpenMillis;
+
+    @Value("${app.redis.circuit-breaker.half-open-probes:3}")
+    private int halfOpenProbes;
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private volatile long stateChangedAt = System.currentTimeMillis();
+    private long outageStartedAt;
+    private int halfOpenSuccesses;
+
+    // 최근 호출 결과 슬라이딩 윈도우 (원형 버퍼)
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int windowIndex;
+    private int bufferedCalls;
+    private int failedCount;
+    private int slowCount;
+
+    private final Map<String, AtomicLong> transitions = new ConcurrentHashMap<>();
+
+    public RedisHealthService(RedisTemplate<String, String> redisTemplate,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${app.redis.circuit-breaker.window-size:20}") int windowSize) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
 
     /**
-     * Redis 연결 상태를 확인합니다.
+     * Redis 호출 허용 여부 (서킷이 CLOSED 인 경우에만 true)
      * @return Redis가 정상적으로 연결되어 있으면 true
      */
     public boolean isRedisHealthy() {
-        return isRedisHealthy.get();
+        return state == CircuitState.CLOSED;
+    }
+
+    public CircuitState getState() {
+        return state;
     }
 
     /**
-     * Redis 연결을 테스트합니다.
+     * 마지막 상태 전환 시각 (CLOSED 상태라면 복구 시각)
+     */
+    public long getStateChangedAt() {
+        return stateChangedAt;
+    }
+
+    /**
+     * Redis 호출 성공을 기록합니다.
+     * @param elapsedNanos 호출 소요 시간
+     */
+    public void recordSuccess(long elapsedNanos) {
+        record(false, TimeUnit.NANOSECONDS.toMillis(elapsedNanos) >= slowCallThresholdMillis);
+    }
+
+    /**
+     * Redis 호출 실패를 기록합니다.
+     */
+    public void recordFailure(Exception e) {
+        log.debug("Redis 호출 실패 기록: {}", e.getMessage());
+        record(true, false);
+    }
+
+    /**
+     * Redis 연결을 테스트하고 결과를 서킷에 기록합니다.
      * @return 연결 테스트 성공 여부
      */
     public boolean testConnection() {
+        long started = System.nanoTime();
         try {
             redisTemplate.opsForValue().get("health_check");
-            if (!isRedisHealthy.get()) {
-                log.info("✅ Redis 연결이 복구되었습니다.");
-                isRedisHealthy.set(true);
-            }
+            recordSuccess(System.nanoTime() - started);
             return true;
         } catch (Exception e) {
             log.warn("❌ Redis 연결 테스트 실패: {}", e.getMessage());
-            isRedisHealthy.set(false);
+            recordFailure(e);
             return false;
         }
     }
 
     /**
-     * 주기적으로 Redis 연결 상태를 확인합니다. (30초마다)
+     * 주기적으로 Redis 연결 상태를 확인합니다. (30초마다, CLOSED 상태에서만)
+     * 서킷 상태는 파드마다 따로 가지므로 ClusterLockService 없이 파드별로 실행합니다.
      */
     @Scheduled(fixedRate = 30000)
     public void healthCheck() {
-        if (isReconnecting.get()) {
-            log.debug("Redis 재연결 중... 스킵");
+        if (state != CircuitState.CLOSED) {
+            log.debug("Redis 서킷 {} 상태, 헬스체크 스킵 (프로브가 처리)", state);
             return;
         }
 
@@ -62,32 +146,72 @@ public class RedisHealthService {
     }
 
     /**
-     * Redis 재연결을 시도합니다.
+     * OPEN 상태가 wait-open-millis 를 지나면 HALF_OPEN 으로 전환하고, HALF_OPEN 상태에서 프로브를 보냅니다.
+     */
+    @Scheduled(fixedDelayString = "${app.redis.circuit-breaker.probe-interval-millis:2000}")
+    public void probe() {
+        synchronized (this) {
+            if (state == CircuitState.OPEN && System.currentTimeMillis() - stateChangedAt >= waitOpenMillis) {
+                transitionTo(CircuitState.HALF_OPEN);
+            }
+            if (state != CircuitState.HALF_OPEN) {
+                return;
+            }
+        }
+
+        long started = System.nanoTime();
+        boolean success;
+        try {
+            redisTemplate.opsForValue().get("health_check");
+            success = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < slowCallThresholdMillis;
+        } catch (Exception e) {
+            log.debug("Redis 프로브 실패: {}", e.getMessage());
+            success = false;
+        }
+
+        synchronized (this) {
+            if (state != CircuitState.HALF_OPEN) {
+                return;
+            }
+            if (!success) {
+                transitionTo(CircuitState.OPEN);
+            } else if (++halfOpenSuccesses >= halfOpenProbes) {
+                transitionTo(CircuitState.CLOSED);
+            }
+        }
+    }
+
+    /**
+     * 즉시 프로브를 1회 수행합니다. (대기 없이 반환)
+     * OPEN 상태라면 대기 시간과 관계없이 HALF_OPEN 으로 전환하여 프로브합니다.
      */
     public void attemptReconnection() {
-        if (isReconnecting.compareAndSet(false, true)) {
-            log.info("🔄 Redis 재연결을 시도합니다...");
-            
-            try {
-                // 여러 번 재연결 시도
-                for (int i = 0; i < 3; i++) {
-                    if (testConnection()) {
-                        log.info("✅ Redis 재연결 성공!");
-                        break;
-                    }
-                    
-                    if (i < 2) {
-                        log.info("재연결 시도 {} 실패, 5초 후 재시도...", i + 1);
-                        Thread.sleep(5000);
-                    }
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Redis 재연결 중 인터럽트 발생", e);
-            } finally {
-                isReconnecting.set(false);
+        synchronized (this) {
+            if (state == CircuitState.CLOSED) {
+                return;
+            }
+            if (state == CircuitState.OPEN) {
+                log.info("🔄 Redis 재연결 프로브를 요청합니다...");
+                transitionTo(CircuitState.HALF_OPEN);
             }
         }
+        probe();
+    }
+
+    /**
+     * 서킷 브레이커 상태와 전환 횟수
+     */
+    public synchronized Map<String, Object> getCircuitBreakerStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", state.name());
+        status.put("stateChangedAt", stateChangedAt);
+        status.put("bufferedCalls", bufferedCalls);
+        status.put("failureRate", bufferedCalls == 0 ? 0 : failedCount * 100 / bufferedCalls);
+        status.put("slowCallRate", bufferedCalls == 0 ? 0 : slowCount * 100 / bufferedCalls);
+        Map<String, Long> transitionCounts = new LinkedHashMap<>();
+        transitions.forEach((key, count) -> transitionCounts.put(key, count.get()));
+        status.put("transitions", transitionCounts);
+        return status;
     }
 
     /**
@@ -95,6 +219,68 @@ public class RedisHealthService {
      */
     public void logConnectionStatus() {
         boolean healthy = testConnection();
-        log.info("Redis 연결 상태: {}", healthy ? "✅ 정상" : "❌ 연결 끊김");
+        log.info("Redis 연결 상태: {} (서킷: {})", healthy ? "✅ 정상" : "❌ 연결 끊김", state);
+    }
+
+    private synchronized void record(boolean failed, boolean slow) {
+        if (state != CircuitState.CLOSED) {
+            return;
+        }
+
+        if (bufferedCalls == failedCalls.length) {
+            if (failedCalls[windowIndex]) {
+                failedCount--;
+            }
+            if (slowCalls[windowIndex]) {
+                slowCount--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+        failedCalls[windowIndex] = failed;
+        slowCalls[windowIndex] = slow;
+        if (failed) {
+            failedCount++;
+        }
+        if (slow) {
+            slowCount++;
+        }
+        windowIndex = (windowIndex + 1) % failedCalls.length;
+
+        if (bufferedCalls >= minimumCalls
+                && (failedCount * 100 >= failureRateThreshold * bufferedCalls
+                || slowCount * 100 >= slowCallRateThreshold * bufferedCalls)) {
+            log.warn("❌ Redis 서킷 OPEN - 실패 {}건, 느린 호출 {}건 / {}건", failedCount, slowCount, bufferedCalls);
+            transitionTo(CircuitState.OPEN);
+        }
+    }
+
+    private void transitionTo(CircuitState newState) {
+        CircuitState previous = state;
+        if (previous == newState) {
+            return;
+        }
+        state = newState;
+        stateChangedAt = System.currentTimeMillis();
+        halfOpenSuccesses = 0;
+        if (previous == CircuitState.CLOSED) {
+            outageStartedAt = stateChangedAt;
+        }
+        transitions.computeIfAbsent(previous + "->" + newState, key -> new AtomicLong()).incrementAndGet();
+        log.info("Redis 서킷 상태 전환: {} -> {}", previous, newState);
+        if (newState == CircuitState.CLOSED) {
+            resetWindow();
+            log.info("✅ Redis 연결이 복구되었습니다. (서킷 CLOSED)");
+            eventPublisher.publishEvent(new RedisRecoveredEvent(outageStartedAt, stateChangedAt));
+        }
+    }
+
+    private void resetWindow() {
+        Arrays.fill(failedCalls, false);
+        Arrays.fill(slowCalls, false);
+        windowIndex = 0;
+        bufferedCalls = 0;
+        failedCount = 0;
+        slowCount = 0;
     }
-} 
\ No newline at end of file
+}
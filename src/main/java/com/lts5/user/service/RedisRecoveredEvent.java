@@ -0,0 +1,9 @@
+package com.lts5.user.service;
+
+/**
+ * Redis 서킷이 OPEN 이후 CLOSED 로 복구되었을 때 발행되는 이벤트
+ * @param outageStartedAt 서킷이 OPEN 된 시각 (epoch millis)
+ * @param recoveredAt 서킷이 CLOSED 된 시각 (epoch millis)
+ */
+public record RedisRecoveredEvent(long outageStartedAt, long recoveredAt) {
+}
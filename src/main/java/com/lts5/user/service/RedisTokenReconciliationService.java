@@ -0,0 +1,360 @@
+package com.lts5.user.service;
+
+import com.lts5.user.entity.RefreshToken;
+import com.lts5.user.repository.RefreshTokenRepository;
+import com.lts5.user.repository.SchedulerLockRepository;
+import com.lts5.user.util.JwtUtil;
+import com.lts5.user.util.RedisPipeline;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 장애 복구 후 DB → Redis refresh token 재동기화
+ * - RedisRecoveredEvent 수신 시 유효한 토큰을 id 순 페이지 단위로 읽어 파이프라인 SET ... PX 로 기록합니다. (TTL 은 남은 만료 시간)
+ * - 장애 중 발급된 토큰은 Redis 의 이전 값을 덮어쓰고, 그 이전 토큰은 키가 없을 때만(NX) 기록합니다.
+ * - 장애 중 Redis 에 반영하지 못한 삭제는 메모리에 모아 두었다가 재동기화 전에 먼저 반영합니다.
+ * - 재동기화가 끝나면 Redis 를 기준 저장소로 간주하여 Redis 미스 시 DB 를 조회하지 않습니다. (isRedisAuthoritative)
+ * - 기동 시에도 한 번 수행하여 이전 프로세스에서 DB 에만 남은 토큰을 반영합니다.
+ * - 서킷이 CLOSED 인 채로 Redis 쓰기/삭제가 실패해 DB 에만 반영되면(markDiverged) 기준 상태를 해제하고 재동기화를 예약합니다.
+ *   다른 파드도 DB 에만 있는 토큰을 놓치지 않도록 scheduler_locks 의 token-storage-diverged 행에 표시하며,
+ *   각 파드는 이 행을 divergence-poll-millis 주기로 확인해 표시가 유효한 동안 Redis 미스 시 DB 를 조회합니다.
+ */
+@Slf4j
+@Service
+public class RedisTokenReconciliationService {
+
+    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final String DIVERGENCE_MARKER = "token-storage-diverged";
+    // 만료 시각에서 역산한 발급 시각의 오차 여유
+    private static final long ISSUED_AT_MARGIN_MILLIS = 5000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisHealthService redisHealthService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenWriteBehindService writeBehindService;
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final TransactionTemplate markerTransaction;
+    private final String instanceName;
+
+    @Value("${app.token-storage.reconciliation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.token-storage.reconciliation.page-size:500}")
+    private int pageSize;
+
+    @Value("${app.token-storage.reconciliation.max-missed-deletes:100000}")
+    private int maxMissedDeletes;
+
+    @Value("${app.token-storage.reconciliation.divergence-hold-millis:600000}")
+    private long divergenceHoldMillis;
+
+    @Value("${app.token-storage.reconciliation.divergence-poll-millis:1000}")
+    private long divergencePollMillis;
+
+    // 장애 중 Redis 에 반영하지 못한 삭제 대상 키
+    private final Set<String> missedDeletes = ConcurrentHashMap.newKeySet();
+    // refresh token 외에 함께 재동기화할 저장소 작업 (기기별 세션 등)
+    private final List<Runnable> resyncTasks = new CopyOnWriteArrayList<>();
+    // 재동기화를 마친 서킷 CLOSED 시각 (RedisHealthService.getStateChangedAt 과 같으면 Redis 기준)
+    private volatile long reconciledAt = -1;
+    // markDiverged 호출마다 증가 (재동기화 도중 새로 어긋나면 완료 표시를 하지 않음)
+    private final AtomicLong divergence = new AtomicLong();
+    private final AtomicBoolean resyncQueued = new AtomicBoolean(false);
+    // 클러스터 불일치 표시 캐시 (epoch millis)
+    private volatile long clusterDivergedUntil;
+    private volatile long clusterDivergenceCheckedAt;
+    private volatile long markerWrittenAt;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "redis-token-reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RedisTokenReconciliationService(RedisTemplate<String, String> redisTemplate,
+                                           RedisHealthService redisHealthService,
+                                           RefreshTokenRepository refreshTokenRepository,
+                                           RefreshTokenWriteBehindService writeBehindService,
+                                           SchedulerLockRepository schedulerLockRepository,
+                                           PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.redisHealthService = redisHealthService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.writeBehindService = writeBehindService;
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.markerTransaction = new TransactionTemplate(transactionManager);
+        this.markerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String hostname = System.getenv("HOSTNAME");
+        this.instanceName = (hostname != null ? hostname : "instance") + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 현재 서킷이 CLOSED 이고, 그 복구 이후 재동기화가 끝났는지 여부
+     * true 이면 Redis 미스는 토큰이 없는 것으로 간주할 수 있습니다.
+     */
+    public boolean isRedisAuthoritative() {
+        return enabled
+                && redisHealthService.isRedisHealthy()
+                && reconciledAt == redisHealthService.getStateChangedAt()
+                && !isClusterDiverged();
+    }
+
+    /**
+     * Redis 저장/삭제에 실패했거나 DB 로 대체 저장한 경우 호출합니다.
+     * Redis 기준 상태를 해제하고, 다른 파드에도 표시한 뒤 재동기화를 예약합니다.
+     */
+    public void markDiverged() {
+        if (!enabled) {
+            return;
+        }
+        divergence.incrementAndGet();
+        reconciledAt = -1;
+        long now = System.currentTimeMillis();
+        writeDivergenceMarker(now);
+        // 서킷이 열리지 않은 단발성 실패는 복구 이벤트가 없으므로 직접 재동기화 (열린 경우는 복구 이벤트에서 수행)
+        if (redisHealthService.isRedisHealthy() && resyncQueued.compareAndSet(false, true)) {
+            submit(now - ISSUED_AT_MARGIN_MILLIS, redisHealthService.getStateChangedAt());
+        }
+    }
+
+    /**
+     * Redis 에 반영하지 못한 refresh token 삭제를 기록합니다.
+     */
+    public void recordMissedDelete(String username) {
+        recordMissedKeyDelete(REFRESH_TOKEN_PREFIX + username);
+    }
+
+    /**
+     * Redis 에 반영하지 못한 키 삭제를 기록합니다. (세션 해시 등)
+     */
+    public void recordMissedKeyDelete(String key) {
+        if (!enabled) {
+            return;
+        }
+        if (missedDeletes.size() >= maxMissedDeletes) {
+            log.warn("Redis 미반영 삭제 목록이 가득 찼습니다. key: {}", key);
+            return;
+        }
+        missedDeletes.add(key);
+    }
+
+    /**
+     * 재동기화 시 함께 수행할 작업을 등록합니다.
+     * 모든 작업이 예외 없이 끝나야 Redis 기준 상태로 전환합니다.
+     */
+    public void registerResyncTask(Runnable task) {
+        resyncTasks.add(task);
+    }
+
+    /**
+     * Redis 에 새 토큰이 저장되면 이전의 미반영 삭제는 더 이상 적용하지 않습니다.
+     */
+    public void clearMissedDelete(String username) {
+        if (enabled && !missedDeletes.isEmpty()) {
+            missedDeletes.remove(REFRESH_TOKEN_PREFIX + username);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled && redisHealthService.isRedisHealthy()) {
+            submit(0L, redisHealthService.getStateChangedAt());
+        }
+    }
+
+    @EventListener
+    public void onRedisRecovered(RedisRecoveredEvent event) {
+        if (enabled) {
+            // 이벤트는 서킷 상태 전환 중에 발행되므로 별도 스레드에서 수행
+            submit(event.outageStartedAt(), event.recoveredAt());
+        }
+    }
+
+    private void submit(long outageStartedAt, long recoveredAt) {
+        // 단일 스레드 실행기이므로 재동기화는 겹치지 않고 순서대로 수행됩니다.
+        executor.execute(() -> reconcile(outageStartedAt, recoveredAt));
+    }
+
+    /**
+     * DB 의 유효 토큰을 Redis 에 기록합니다.
+     * @param outageStartedAt 장애 시작 시각 (이 시각 이후 발급된 토큰은 Redis 값을 덮어씀, 0 이면 덮어쓰지 않음)
+     * @param recoveredAt 복구 시각 (완료 시 이 시각의 CLOSED 상태를 Redis 기준으로 표시)
+     */
+    void reconcile(long outageStartedAt, long recoveredAt) {
+        long started = System.currentTimeMillis();
+        resyncQueued.set(false);
+        long observedDivergence = divergence.get();
+        try {
+            // 장애 중 쌓인 쓰기 지연 항목을 먼저 DB 에 반영
+            writeBehindService.flush();
+            int deleted = replayMissedDeletes();
+
+            // 기동 시(장애 시각 없음)에는 Redis 값을 덮어쓰지 않습니다.
+            LocalDateTime outageStart = outageStartedAt > 0
+                    ? LocalDateTime.ofInstant(Instant.ofEpochMilli(outageStartedAt), ZoneId.systemDefault())
+                    : LocalDateTime.MAX;
+            long refreshTtl = JwtUtil.getRefreshTokenExpirationTime();
+            long lastId = Long.MIN_VALUE;
+            int written = 0;
+            while (redisHealthService.getStateChangedAt() == recoveredAt && redisHealthService.isRedisHealthy()) {
+                LocalDateTime now = LocalDateTime.now();
+                List<RefreshToken> page = refreshTokenRepository.findValidTokensAfter(lastId, now, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    break;
+                }
+                written += writePage(page, now, outageStart, refreshTtl);
+                lastId = page.get(page.size() - 1).getId();
+                if (page.size() < pageSize) {
+                    break;
+                }
+            }
+
+            if (redisHealthService.getStateChangedAt() == recoveredAt && redisHealthService.isRedisHealthy()) {
+                resyncTasks.forEach(Runnable::run);
+            }
+
+            if (divergence.get() != observedDivergence) {
+                log.info("재동기화 중 Redis 쓰기 실패가 다시 발생해 기준 상태로 전환하지 않습니다. (기록: {})", written);
+            } else if (redisHealthService.getStateChangedAt() == recoveredAt && redisHealthService.isRedisHealthy()) {
+                reconciledAt = recoveredAt;
+                releaseDivergenceMarker();
+                log.info("Redis refresh token 재동기화 완료 - 기록: {}, 삭제 반영: {}, 소요: {}ms",
+                        written, deleted, System.currentTimeMillis() - started);
+            } else {
+                log.warn("재동기화 중 Redis 서킷 상태가 바뀌어 중단합니다. (기록: {})", written);
+            }
+        } catch (Exception e) {
+            log.error("Redis refresh token 재동기화 실패", e);
+            redisHealthService.recordFailure(e);
+        }
+    }
+
+    private int replayMissedDeletes() {
+        if (missedDeletes.isEmpty()) {
+            return 0;
+        }
+        List<String> keys = new ArrayList<>(missedDeletes);
+        redisTemplate.unlink(keys);
+        keys.forEach(missedDeletes::remove);
+        return keys.size();
+    }
+
+    private int writePage(List<RefreshToken> page, LocalDateTime now, LocalDateTime outageStart, long refreshTtl) {
+        List<RefreshToken> writable = new ArrayList<>(page.size());
+        for (RefreshToken token : page) {
+            if (Duration.between(now, token.getExpiresAt()).toMillis() > 0) {
+                writable.add(token);
+            }
+        }
+        if (writable.isEmpty()) {
+            return 0;
+        }
+
+        RedisPipeline.execute(redisTemplate, (RedisCallback<Object>) connection -> {
+            for (RefreshToken token : writable) {
+                long remaining = Duration.between(now, token.getExpiresAt()).toMillis();
+                // 만료 시각에서 발급 시각을 역산 (createdAt 은 감사 설정에 따라 비어 있을 수 있음)
+                LocalDateTime issuedAt = token.getExpiresAt().minusNanos(refreshTtl * 1_000_000);
+                SetOption option = issuedAt.isBefore(outageStart) ? SetOption.ifAbsent() : SetOption.upsert();
+                connection.stringCommands().set(
+                        (REFRESH_TOKEN_PREFIX + token.getUsername()).getBytes(StandardCharsets.UTF_8),
+                        token.getRefreshToken().getBytes(StandardCharsets.UTF_8),
+                        Expiration.milliseconds(remaining),
+                        option);
+            }
+            return null;
+        });
+        return writable.size();
+    }
+
+    private boolean isClusterDiverged() {
+        long now = System.currentTimeMillis();
+        if (now - clusterDivergenceCheckedAt >= divergencePollMillis) {
+            clusterDivergenceCheckedAt = now;
+            try {
+                clusterDivergedUntil = schedulerLockRepository.findById(DIVERGENCE_MARKER)
+                        .map(marker -> marker.getLockedUntil().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                        .orElse(0L);
+            } catch (Exception e) {
+                // 확인할 수 없으면 다음 확인 전까지 DB 를 함께 조회
+                log.warn("토큰 저장소 불일치 표시 확인 실패: {}", e.getMessage());
+                clusterDivergedUntil = now + divergencePollMillis;
+            }
+        }
+        return clusterDivergedUntil > now;
+    }
+
+    private void writeDivergenceMarker(long now) {
+        // 장애 중 요청마다 쓰지 않도록 유지 시간의 절반이 지났을 때만 연장
+        if (now - markerWrittenAt < divergenceHoldMillis / 2) {
+            return;
+        }
+        markerWrittenAt = now;
+        clusterDivergedUntil = now + divergenceHoldMillis;
+        LocalDateTime at = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        LocalDateTime until = at.plus(Duration.ofMillis(divergenceHoldMillis));
+        try {
+            Integer updated = markerTransaction.execute(status ->
+                    schedulerLockRepository.overwrite(DIVERGENCE_MARKER, instanceName, at, until));
+            if (updated == null || updated == 0) {
+                markerTransaction.execute(status ->
+                        schedulerLockRepository.insertLock(DIVERGENCE_MARKER, instanceName, at, until));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 다른 파드가 먼저 표시한 경우
+        } catch (Exception e) {
+            markerWrittenAt = 0;
+            log.warn("토큰 저장소 불일치 표시 실패: {}", e.getMessage());
+        }
+    }
+
+    private void releaseDivergenceMarker() {
+        if (markerWrittenAt == 0) {
+            return;
+        }
+        try {
+            // 이후 다른 파드가 표시했다면 소유자가 달라 해제되지 않음
+            LocalDateTime now = LocalDateTime.now();
+            markerTransaction.executeWithoutResult(status ->
+                    schedulerLockRepository.release(DIVERGENCE_MARKER, instanceName, now));
+            markerWrittenAt = 0;
+            clusterDivergenceCheckedAt = 0;
+        } catch (Exception e) {
+            log.warn("토큰 저장소 불일치 표시 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,10 +1,22 @@
 package com.lts5.user.service;
 
+import com.lts5.user.util.RedisPipeline;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -13,94 +25,204 @@ public class RedisTokenStorageService implements TokenStorageService {
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisHealthService redisHealthService;
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    // 일괄 명령 한 번에 보내는 최대 키 수 (Redis 단일 명령이 길어져 다른 요청을 막지 않도록)
+    private static final int BULK_CHUNK_SIZE = 1000;
     
     @Override
     public void saveRefreshToken(String username, String refreshToken, long expirationTime) {
+        long started = System.nanoTime();
         try {
             String key = REFRESH_TOKEN_PREFIX + username;
             Duration duration = Duration.ofMillis(expirationTime);
             redisTemplate.opsForValue().set(key, refreshToken, duration);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
             log.debug("Refresh token saved to Redis for user: {}", username);
         } catch (Exception e) {
-            log.warn("Redis 저장 실패, 재연결 시도 후 재시도: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
-            
-            // 재연결 후 다시 시도
-            try {
-                String key = REFRESH_TOKEN_PREFIX + username;
-                Duration duration = Duration.ofMillis(expirationTime);
-                redisTemplate.opsForValue().set(key, refreshToken, duration);
-                log.info("재연결 후 Refresh token 저장 성공 for user: {}", username);
-            } catch (Exception retryException) {
-                log.error("재연결 후에도 Redis 저장 실패 for user: {}", username, retryException);
-                throw retryException;
-            }
+            // 재시도 없이 서킷 브레이커에 실패를 기록 (복구는 백그라운드 프로브가 담당)
+            log.error("Redis 저장 실패 for user: {}", username, e);
+            redisHealthService.recordFailure(e);
+            throw e;
         }
     }
     
     @Override
     public String getRefreshToken(String username) {
+        long started = System.nanoTime();
         try {
             String key = REFRESH_TOKEN_PREFIX + username;
-            return redisTemplate.opsForValue().get(key);
+            String token = redisTemplate.opsForValue().get(key);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return token;
         } catch (Exception e) {
-            log.warn("Redis 조회 실패, 재연결 시도 후 재시도: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
-            
-            // 재연결 후 다시 시도
-            try {
-                String key = REFRESH_TOKEN_PREFIX + username;
-                String token = redisTemplate.opsForValue().get(key);
-                log.info("재연결 후 Refresh token 조회 성공 for user: {}", username);
-                return token;
-            } catch (Exception retryException) {
-                log.error("재연결 후에도 Redis 조회 실패 for user: {}", username, retryException);
-                throw retryException;
-            }
+            log.error("Redis 조회 실패 for user: {}", username, e);
+            redisHealthService.recordFailure(e);
+            throw e;
         }
     }
     
     @Override
     public void deleteRefreshToken(String username) {
+        long started = System.nanoTime();
         try {
             String key = REFRESH_TOKEN_PREFIX + username;
             redisTemplate.delete(key);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
             log.debug("Refresh token deleted from Redis for user: {}", username);
         } catch (Exception e) {
-            log.warn("Redis 삭제 실패, 재연결 시도 후 재시도: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
-            
-            // 재연결 후 다시 시도
-            try {
-                String key = REFRESH_TOKEN_PREFIX + username;
-                redisTemplate.delete(key);
-                log.info("재연결 후 Refresh token 삭제 성공 for user: {}", username);
-            } catch (Exception retryException) {
-                log.error("재연결 후에도 Redis 삭제 실패 for user: {}", username, retryException);
-                throw retryException;
-            }
+            log.error("Redis 삭제 실패 for user: {}", username, e);
+            redisHealthService.recordFailure(e);
+            throw e;
         }
     }
     
     @Override
     public boolean existsRefreshToken(String username) {
+        long started = System.nanoTime();
         try {
             String key = REFRESH_TOKEN_PREFIX + username;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            boolean exists = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return exists;
+        } catch (Exception e) {
+            log.error("Redis 존재 확인 실패 for user: {}", username, e);
+            redisHealthService.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveAll(Map<String, String> refreshTokens, long expirationTime) {
+        long started = System.nanoTime();
+        try {
+            pipelinedSet(redisTemplate, refreshTokens, expirationTime);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+        } catch (Exception e) {
+            log.error("Redis 일괄 저장 실패 - count: {}", refreshTokens.size(), e);
+            redisHealthService.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, String> getAll(Collection<String> usernames) {
+        long started = System.nanoTime();
+        try {
+            Map<String, String> result = multiGet(redisTemplate, usernames);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return result;
+        } catch (Exception e) {
+            log.error("Redis 일괄 조회 실패 - count: {}", usernames.size(), e);
+            redisHealthService.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<String> usernames) {
+        long started = System.nanoTime();
+        try {
+            unlink(redisTemplate, usernames);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+        } catch (Exception e) {
+            log.error("Redis 일괄 삭제 실패 - count: {}", usernames.size(), e);
+            redisHealthService.recordFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public Set<String> existsAll(Collection<String> usernames) {
+        long started = System.nanoTime();
+        try {
+            Set<String> result = pipelinedExists(redisTemplate, usernames);
+            redisHealthService.recordSuccess(System.nanoTime() - started);
+            return result;
         } catch (Exception e) {
-            log.warn("Redis 존재 확인 실패, 재연결 시도 후 재시도: {}", e.getMessage());
-            redisHealthService.attemptReconnection();
-            
-            // 재연결 후 다시 시도
-            try {
-                String key = REFRESH_TOKEN_PREFIX + username;
-                boolean exists = Boolean.TRUE.equals(redisTemplate.hasKey(key));
-                log.info("재연결 후 Refresh token 존재 확인 성공 for user: {}", username);
-                return exists;
-            } catch (Exception retryException) {
-                log.error("재연결 후에도 Redis 존재 확인 실패 for user: {}", username, retryException);
-                throw retryException;
+            log.error("Redis 일괄 존재 확인 실패 - count: {}", usernames.size(), e);
+            redisHealthService.recordFailure(e);
+            throw e;
+        }
+    }
+
+    /**
+     * SET key value PX ttl 을 파이프라인으로 전송합니다. (Cluster 에서는 순차 전송)
+     */
+    static void pipelinedSet(RedisTemplate<String, String> redisTemplate, Map<String, String> refreshTokens, long expirationTime) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(refreshTokens.entrySet());
+        for (int from = 0; from < entries.size(); from += BULK_CHUNK_SIZE) {
+            List<Map.Entry<String, String>> chunk = entries.subList(from, Math.min(from + BULK_CHUNK_SIZE, entries.size()));
+            RedisPipeline.execute(redisTemplate, (RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, String> entry : chunk) {
+                    connection.stringCommands().set(
+                            toKeyBytes(entry.getKey()),
+                            entry.getValue().getBytes(StandardCharsets.UTF_8),
+                            Expiration.milliseconds(expirationTime),
+                            SetOption.upsert());
+                }
+                return null;
+            });
+        }
+    }
+
+    /**
+     * MGET 으로 조회합니다. (토큰이 없는 사용자는 결과에서 제외)
+     */
+    static Map<String, String> multiGet(RedisTemplate<String, String> redisTemplate, Collection<String> usernames) {
+        List<String> ordered = new ArrayList<>(usernames);
+        Map<String, String> result = new LinkedHashMap<>();
+        for (int from = 0; from < ordered.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = ordered.subList(from, Math.min(from + BULK_CHUNK_SIZE, ordered.size()));
+            List<String> values = redisTemplate.opsForValue().multiGet(chunk.stream().map(username -> REFRESH_TOKEN_PREFIX + username).toList());
+            if (values == null) {
+                continue;
             }
+            for (int i = 0; i < chunk.size(); i++) {
+                if (values.get(i) != null) {
+                    result.put(chunk.get(i), values.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * UNLINK 로 삭제합니다. (값 해제는 Redis 백그라운드 스레드에서 수행)
+     */
+    static void unlink(RedisTemplate<String, String> redisTemplate, Collection<String> usernames) {
+        List<String> keys = usernames.stream().map(username -> REFRESH_TOKEN_PREFIX + username).toList();
+        for (int from = 0; from < keys.size(); from += BULK_CHUNK_SIZE) {
+            redisTemplate.unlink(keys.subList(from, Math.min(from + BULK_CHUNK_SIZE, keys.size())));
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * EXISTS 를 파이프라인으로 전송하여 토큰이 있는 사용자를 반환합니다.
+     * Cluster 에서는 파이프라인을 쓸 수 없으므로 슬롯별로 나뉘어 전송되는 MGET 으로 확인합니다.
+     */
+    static Set<String> pipelinedExists(RedisTemplate<String, String> redisTemplate, Collection<String> usernames) {
+        if (!RedisPipeline.isSupported(redisTemplate)) {
+            return new LinkedHashSet<>(multiGet(redisTemplate, usernames).keySet());
+        }
+        List<String> ordered = new ArrayList<>(usernames);
+        Set<String> result = new LinkedHashSet<>();
+        for (int from = 0; from < ordered.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = ordered.subList(from, Math.min(from + BULK_CHUNK_SIZE, ordered.size()));
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String username : chunk) {
+                    connection.keyCommands().exists(toKeyBytes(username));
+                }
+                return null;
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                if (Boolean.TRUE.equals(replies.get(i))) {
+                    result.add(chunk.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static byte[] toKeyBytes(String username) {
+        return (REFRESH_TOKEN_PREFIX + username).getBytes(StandardCharsets.UTF_8);
+    }
+}
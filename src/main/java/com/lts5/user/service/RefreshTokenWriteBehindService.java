@@ -0,0 +1,225 @@
+package com.lts5.user.service;
+
+import com.lts5.user.entity.RefreshToken;
+import com.lts5.user.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * refresh_tokens 쓰기 지연(write-behind) 파이프라인
+ * - mode=async 이면 토큰 저장/삭제를 메모리 대기열에 넣고 flush-interval-millis 마다 또는 batch-size 건이 모이면
+ *   사용자별 최종 상태만 JDBC 배치(DELETE ... IN + INSERT 배치)로 반영합니다.
+ * - 같은 사용자의 연속 쓰기는 마지막 것만 남깁니다. 대기열이 max-pending 에 도달하면 호출 스레드에서 즉시 flush 합니다.
+ * - 반영 전 조회는 대기열/반영 중 항목을 먼저 확인하여 방금 저장한 토큰을 읽을 수 있습니다.
+ * - mode=sync(기본)이면 사용하지 않으며, async 모드에서는 장애 시 최대 flush 주기만큼의 쓰기가 유실될 수 있습니다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenWriteBehindService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean async;
+    private final int batchSize;
+    private final int maxPending;
+
+    // username → 최종 쓰기 (모든 접근은 this 로 동기화)
+    private final Map<String, PendingWrite> pending = new LinkedHashMap<>();
+    private Map<String, PendingWrite> inFlight = Map.of();
+
+    private final Object flushLock = new Object();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-token-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Timer flushTimer;
+    private final Counter coalescedCounter;
+    private final Counter flushFailureCounter;
+
+    public RefreshTokenWriteBehindService(RefreshTokenRepository refreshTokenRepository,
+                                          TransactionTemplate transactionTemplate,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${app.token-storage.write-behind.mode:sync}") String mode,
+                                          @Value("${app.token-storage.write-behind.batch-size:100}") int batchSize,
+                                          @Value("${app.token-storage.write-behind.max-pending:10000}") int maxPending) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.async = "async".equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+
+        Gauge.builder("auth.token.write-behind.pending", this, RefreshTokenWriteBehindService::pendingCount)
+                .description("DB 반영 대기 중인 refresh token 쓰기 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("auth.token.write-behind.flush")
+                .description("refresh token 배치 반영 시간")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("auth.token.write-behind.coalesced")
+                .description("같은 사용자의 이전 쓰기를 대체한 횟수")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("auth.token.write-behind.flush.failures")
+                .description("배치 반영 실패 횟수")
+                .register(meterRegistry);
+
+        if (async) {
+            log.info("Refresh token 쓰기 지연 모드 활성화 - batchSize: {}, maxPending: {}", batchSize, maxPending);
+        }
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void enqueueSave(String username, String refreshToken, LocalDateTime expiresAt) {
+        enqueue(username, new PendingWrite(refreshToken, expiresAt));
+    }
+
+    public void enqueueDelete(String username) {
+        enqueue(username, PendingWrite.DELETE);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 사용자의 최종 쓰기를 반환합니다. (없으면 null)
+     */
+    public synchronized PendingWrite getPending(String username) {
+        PendingWrite write = pending.get(username);
+        return write != null ? write : inFlight.get(username);
+    }
+
+    @Scheduled(fixedDelayString = "${app.token-storage.write-behind.flush-interval-millis:200}")
+    public void scheduledFlush() {
+        if (async) {
+            flush();
+        }
+    }
+
+    /**
+     * 대기 중인 쓰기를 batch-size 단위 트랜잭션으로 반영합니다.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            Map<String, PendingWrite> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = new LinkedHashMap<>(pending);
+                pending.clear();
+                inFlight = batch;
+            }
+
+            long started = System.nanoTime();
+            List<Map.Entry<String, PendingWrite>> entries = new ArrayList<>(batch.entrySet());
+            try {
+                for (int from = 0; from < entries.size(); from += batchSize) {
+                    List<Map.Entry<String, PendingWrite>> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+                    transactionTemplate.executeWithoutResult(status -> write(chunk));
+                    // 반영된 항목은 반영 중 목록에서 제거
+                    synchronized (this) {
+                        Map<String, PendingWrite> remaining = new LinkedHashMap<>(inFlight);
+                        chunk.forEach(entry -> remaining.remove(entry.getKey()));
+                        inFlight = remaining;
+                    }
+                }
+                log.debug("Refresh token {}건 DB 반영 완료", batch.size());
+            } catch (Exception e) {
+                flushFailureCounter.increment();
+                log.error("Refresh token 배치 반영 실패, 다음 주기에 재시도합니다. ({}건)", inFlight.size(), e);
+                synchronized (this) {
+                    // 이후 들어온 쓰기가 더 최신이므로 덮어쓰지 않음
+                    inFlight.forEach(pending::putIfAbsent);
+                }
+            } finally {
+                synchronized (this) {
+                    inFlight = Map.of();
+                }
+                flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        if (async) {
+            flush();
+        }
+    }
+
+    private void write(List<Map.Entry<String, PendingWrite>> chunk) {
+        refreshTokenRepository.deleteByUsernameIn(chunk.stream().map(Map.Entry::getKey).toList());
+        List<RefreshToken> tokens = chunk.stream()
+                .filter(entry -> !entry.getValue().isDelete())
+                .map(entry -> RefreshToken.builder()
+                        .username(entry.getKey())
+                        .refreshToken(entry.getValue().refreshToken())
+                        .expiresAt(entry.getValue().expiresAt())
+                        .build())
+                .toList();
+        refreshTokenRepository.saveAll(tokens);
+    }
+
+    private void enqueue(String username, PendingWrite write) {
+        boolean full;
+        synchronized (this) {
+            full = pending.size() >= maxPending && !pending.containsKey(username);
+        }
+        if (full) {
+            // 대기열이 가득 차면 호출 스레드에서 반영하여 메모리 사용을 제한
+            flush();
+        }
+
+        int size;
+        synchronized (this) {
+            if (pending.put(username, write) != null) {
+                coalescedCounter.increment();
+            }
+            size = pending.size();
+        }
+        if (size >= batchSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flush);
+        }
+    }
+
+    private synchronized int pendingCount() {
+        return pending.size() + inFlight.size();
+    }
+
+    /**
+     * 대기 중인 쓰기 (refreshToken 이 null 이면 삭제)
+     */
+    public record PendingWrite(String refreshToken, LocalDateTime expiresAt) {
+
+        static final PendingWrite DELETE = new PendingWrite(null, null);
+
+        public boolean isDelete() {
+            return refreshToken == null;
+        }
+
+        public boolean isValid() {
+            return !isDelete() && expiresAt.isAfter(LocalDateTime.now());
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,12 +22,9 @@ import com.primes.library.common.codes.ErrorCode;
 import com.primes.library.common.exceptions.EntityNotFoundException;
 import com.primes.library.service.BaseService;
 import com.primes.library.util.DynamicFieldQueryUtil;
-import com.querydsl.core.BooleanBuilder;
 
 import lombok.RequiredArgsConstructor;
 
-import static com.lts5.user.entity.QRole.role;
-
 @Service
 @RequiredArgsConstructor
 public class RoleService extends BaseService{
@@ -35,26 +33,16 @@ public class RoleService extends BaseService{
     private final DynamicFieldQueryUtil dynamicFieldQueryUtil;
     private final RolePermissionRepository rolePermissionRepository;
     private final PermissionRepository permissionRepository;
+    private final PermissionIndexService permissionIndexService;
+    private final AutocompleteService autocompleteService;
     
     public Page<RoleDto> search(RoleSearchRequest searchRequest, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-
-        if (searchRequest != null) {
-            if (searchRequest.getId() != null) {
-                builder.and(role.id.eq(searchRequest.getId()));
-            }
-            if (searchRequest.getName() != null && !searchRequest.getName().isBlank()) {
-                builder.and(role.name.containsIgnoreCase(searchRequest.getName()));
-            }
-            if (searchRequest.getDescription() != null && !searchRequest.getDescription().isBlank()) {
-                builder.and(role.description.containsIgnoreCase(searchRequest.getDescription()));
-            }
-        }
-
-        // 삭제되지 않은 데이터만 기본 필터
-        builder.and(role.isDelete.eq(false));
+        return roleRepository.search(searchRequest != null ? searchRequest : new RoleSearchRequest(), pageable)
+                .map(Role::toDto);
+    }
 
-        return roleRepository.findAll(builder, pageable)
+    public Slice<RoleDto> searchSlice(RoleSearchRequest searchRequest, Pageable pageable) {
+        return roleRepository.searchSlice(searchRequest != null ? searchRequest : new RoleSearchRequest(), pageable)
                 .map(Role::toDto);
     }
 
@@ -62,6 +50,7 @@ public class RoleService extends BaseService{
     public RoleDto create(RoleDto dto) {
         Role entity = dto.toEntity();
         Role saved = roleRepository.save(entity);
+        autocompleteService.onChanged(AutocompleteService.Target.ROLE, List.of(saved.getId()));
         return saved.toDto();
     }
 
@@ -71,18 +60,23 @@ public class RoleService extends BaseService{
                 .map(RoleDto::toEntity)
                 .toList();
         List<Role> saved = roleRepository.saveAll(entities);
+        autocompleteService.onChanged(AutocompleteService.Target.ROLE, saved.stream().map(Role::getId).toList());
         return saved.stream().map(Role::toDto).toList();
     }
 
     @Transactional
     public RoleDto update(Long id, RoleDto dto) {
         dto.setId(id);
-        return updateSingle(dto);
+        RoleDto updated = updateSingle(dto);
+        autocompleteService.onChanged(AutocompleteService.Target.ROLE, List.of(id));
+        return updated;
     }
 
     @Transactional
     public List<RoleDto> updateAll(List<RoleDto> dtos) {
-        return dtos.stream().map(this::updateSingle).toList();
+        List<RoleDto> updated = dtos.stream().map(this::updateSingle).toList();
+        autocompleteService.onChanged(AutocompleteService.Target.ROLE, updated.stream().map(RoleDto::getId).toList());
+        return updated;
     }
 
     @Transactional
@@ -100,6 +94,7 @@ public class RoleService extends BaseService{
             entity.setDelete();
         }
         roleRepository.saveAll(existing);
+        autocompleteService.onChanged(AutocompleteService.Target.ROLE, ids);
     }
 
     public List<?> getFieldValues(String fieldName, RoleSearchRequest searchRequest) {
@@ -126,6 +121,9 @@ public class RoleService extends BaseService{
                     .build();
             rolePermissionRepository.save(rolePermission);
         }
+
+        // 역할 보유 사용자의 권한 인덱스 무효화
+        permissionIndexService.evictRole(roleId);
     }
 
     @Transactional
@@ -139,6 +137,9 @@ public class RoleService extends BaseService{
                         String.format("Id 가 %d인 RolePermission 데이터가 없습니다.", roleId)));
             rolePermissionRepository.deleteByIdRoleIdAndIdPermissionId(roleId, permissionId);
         }
+
+        // 역할 보유 사용자의 권한 인덱스 무효화
+        permissionIndexService.evictRole(roleId);
     }
 
     // ==================== 유틸리티 메서드 ====================
@@ -0,0 +1,60 @@
+package com.lts5.user.service;
+
+import com.lts5.user.util.TokenDigest;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 기기별 refresh token 세션 저장소
+ * 세션은 (테넌트, 사용자 ID) 단위로 묶이며, 기기 ID 마다 하나의 refresh token 을 가집니다.
+ */
+public interface SessionStorageService {
+
+    /**
+     * 기기 세션을 저장합니다. 같은 기기의 이전 세션은 대체됩니다.
+     * @param username 사용자명 (DB 저장소의 조회/정리용)
+     */
+    void saveSession(SessionKey key, String deviceId, String username, String refreshToken, long expirationTime);
+
+    /**
+     * 기기의 refresh token 을 조회합니다. (없거나 만료된 경우 null)
+     */
+    String getSession(SessionKey key, String deviceId);
+
+    /**
+     * 사용자의 유효한 세션 목록을 만료 시각이 늦은 순으로 반환합니다.
+     */
+    List<SessionInfo> listSessions(SessionKey key);
+
+    void deleteSession(SessionKey key, String deviceId);
+
+    void deleteAllSessions(SessionKey key);
+
+    /**
+     * 테넌트의 모든 세션을 삭제합니다.
+     * @param userIds 테넌트 사용자 ID 목록 (키 단위 저장소에서 삭제 대상 키를 구성하는 데 사용)
+     */
+    void deleteTenantSessions(Short tenantId, Collection<Long> userIds);
+
+    /**
+     * 저장된 기기 세션의 refresh token 이 전달된 토큰과 일치하는지 확인합니다.
+     */
+    default boolean matchesSession(SessionKey key, String deviceId, String refreshToken) {
+        String stored = getSession(key, deviceId);
+        return TokenDigest.matches(stored, refreshToken);
+    }
+
+    record SessionKey(Short tenantId, Long userId) {
+        @Override
+        public String toString() {
+            return tenantId + ":" + userId;
+        }
+    }
+
+    /**
+     * @param expiresAt 만료 시각 (epoch millis)
+     */
+    record SessionInfo(String deviceId, long expiresAt) {
+    }
+}
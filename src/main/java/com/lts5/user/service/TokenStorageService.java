@@ -1,8 +1,69 @@
 package com.lts5.user.service;
 
+import com.lts5.user.util.TokenDigest;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 public interface TokenStorageService {
     void saveRefreshToken(String username, String refreshToken, long expirationTime);
     String getRefreshToken(String username);
     void deleteRefreshToken(String username);
     boolean existsRefreshToken(String username);
-} 
\ No newline at end of file
+
+    /**
+     * 저장된 refresh token 이 전달된 토큰과 일치하는지 확인합니다.
+     * 캐시를 두는 구현은 캐시 값이 다르면 원본 저장소로 다시 확인하도록 재정의합니다.
+     */
+    default boolean matchesRefreshToken(String username, String refreshToken) {
+        String storedRefreshToken = getRefreshToken(username);
+        return TokenDigest.matches(storedRefreshToken, refreshToken);
+    }
+
+    /**
+     * 여러 사용자의 refresh token 을 같은 만료 시간으로 저장합니다.
+     * 기본 구현은 단건 저장을 반복하며, 저장소별 구현은 파이프라인/배치로 재정의합니다.
+     * @param refreshTokens username → refresh token
+     */
+    default void saveAll(Map<String, String> refreshTokens, long expirationTime) {
+        refreshTokens.forEach((username, refreshToken) -> saveRefreshToken(username, refreshToken, expirationTime));
+    }
+
+    /**
+     * 여러 사용자의 refresh token 을 조회합니다.
+     * @return username → refresh token (토큰이 없는 사용자는 포함하지 않음)
+     */
+    default Map<String, String> getAll(Collection<String> usernames) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String username : usernames) {
+            String refreshToken = getRefreshToken(username);
+            if (refreshToken != null) {
+                result.put(username, refreshToken);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 사용자의 refresh token 을 삭제합니다.
+     */
+    default void deleteAll(Collection<String> usernames) {
+        usernames.forEach(this::deleteRefreshToken);
+    }
+
+    /**
+     * 여러 사용자 중 refresh token 이 존재하는 사용자를 반환합니다.
+     */
+    default Set<String> existsAll(Collection<String> usernames) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String username : usernames) {
+            if (existsRefreshToken(username)) {
+                result.add(username);
+            }
+        }
+        return result;
+    }
+}
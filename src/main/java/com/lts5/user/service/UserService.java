@@ -10,22 +10,29 @@ import com.lts5.user.entity.ids.UserGroupId;
 import com.lts5.user.entity.ids.UserRoleId;
 
 import com.lts5.user.payload.request.user.UserSearchRequest;
+import com.lts5.user.payload.response.CursorPageResponse;
+import com.lts5.user.repository.auth.UsernameNegativeCache;
 import com.lts5.user.repository.group.GroupRepository;
 import com.lts5.user.repository.role.RoleRepository;
 import com.lts5.user.repository.relation.UserGroupRepository;
 import com.lts5.user.repository.relation.UserRoleRepository;
 import com.lts5.user.repository.user.UserRepository;
+import com.lts5.user.repository.user.UserSearchIndex;
+import com.lts5.user.util.SearchCursor;
 import com.primes.library.common.codes.ErrorCode;
 import com.primes.library.common.exceptions.EntityNotFoundException;
+import com.primes.library.filter.TenantContext;
 import com.primes.library.service.BaseService;
 import com.primes.library.util.DynamicFieldQueryUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -38,6 +45,11 @@ public class UserService extends BaseService {
     private final UserGroupRepository userGroupRepository;
     private final RoleRepository roleRepository;
     private final UserRoleRepository userRoleRepository;
+    private final PermissionIndexService permissionIndexService;
+    private final UsernameNegativeCache usernameNegativeCache;
+    private final CodeDictionary codeDictionary;
+    private final UserSearchIndex userSearchIndex;
+    private final AutocompleteService autocompleteService;
 
     @Transactional
     public UserDto update(String username, UserDto dto) {
@@ -45,16 +57,21 @@ public class UserService extends BaseService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "존재하지 않는 사용자입니다."));
 
         updateEntityFromDto(user, dto);
+        userSearchIndex.onSaved(user.getTenantId(), user.getId());
+        autocompleteService.onChanged(AutocompleteService.Target.USER, List.of(user.getId()));
         return user.toDto();
     }
 
     @Transactional
     public void delete(String username) {
-        if (!userRepository.existsByUsername(username)) {
+        Short tenantId = TenantContext.getTenantId();
+        if (!userRepository.existsByUsernameAndTenantId(username, tenantId)) {
             throw new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND_ERROR);
         }
 
-        userRepository.deleteByUsername(username);
+        userRepository.deleteByUsernameAndTenantId(username, tenantId);
+        usernameNegativeCache.onDeleted(tenantId, username);
+        autocompleteService.onUserDeleted(username);
     }
     
     public List<?> getFieldValues(String fieldName, UserSearchRequest searchRequest) {
@@ -70,11 +87,25 @@ public class UserService extends BaseService {
         Page<User> users = userRepository.search(searchRequest, pageable);
         
         // 각 사용자에 대해 코드 이름 설정
-        return users.map(user -> {
-            UserDto userDto = user.toDto();
-            // department, partLevel, partPosition은 이미 codeName으로 설정되어 있음
-            return userDto;
-        });
+        return users.map(this::toDtoWithCodeNames);
+    }
+
+    public Slice<UserDto> searchSlice(UserSearchRequest searchRequest, Pageable pageable) {
+        return userRepository.searchSlice(searchRequest, pageable)
+                .map(this::toDtoWithCodeNames);
+    }
+
+    public CursorPageResponse<UserDto> searchByCursor(UserSearchRequest searchRequest, String after, int size) {
+        Slice<User> users = userRepository.searchAfter(searchRequest, SearchCursor.decode(after), size);
+        List<UserDto> content = users.map(this::toDtoWithCodeNames).getContent();
+        String nextCursor = users.hasNext() ? SearchCursor.encode(content.get(content.size() - 1).getId()) : null;
+
+        return CursorPageResponse.<UserDto>builder()
+                .content(content)
+                .size(size)
+                .hasNext(users.hasNext())
+                .nextCursor(nextCursor)
+                .build();
     }
 
     @Transactional
@@ -103,6 +134,9 @@ public class UserService extends BaseService {
         
             userGroupRepository.save(userGroup);
         }
+
+        // 권한 인덱스 무효화
+        permissionIndexService.evictUser(userId);
     }
 
     @Transactional
@@ -122,6 +156,9 @@ public class UserService extends BaseService {
             // 물리적 삭제 (카프카 감사 로그에 DELETE 액션으로 기록됨)
             userGroupRepository.delete(userGroup);
         }
+
+        // 권한 인덱스 무효화
+        permissionIndexService.evictUser(userId);
     }
 
 
@@ -151,6 +188,9 @@ public class UserService extends BaseService {
         
         userRoleRepository.save(userRole);
         }
+
+        // 권한 인덱스 무효화
+        permissionIndexService.evictUser(userId);
     }
 
     @Transactional
@@ -170,5 +210,20 @@ public class UserService extends BaseService {
             // 물리적 삭제 (카프카 감사 로그에 DELETE 액션으로 기록됨)
             userRoleRepository.delete(userRole);
         }
+
+        // 권한 인덱스 무효화
+        permissionIndexService.evictUser(userId);
+    }
+
+    /**
+     * department, partLevel, partPosition 코드값을 코드명으로 변환하여 DTO 로 반환합니다.
+     */
+    private UserDto toDtoWithCodeNames(User user) {
+        UserDto userDto = user.toDto();
+        Map<String, String> codeNames = codeDictionary.getCodeNames(user.getTenantId());
+        userDto.setDepartment(codeDictionary.getCodeName(codeNames, user.getDepartment()));
+        userDto.setPartLevel(codeDictionary.getCodeName(codeNames, user.getPartLevel()));
+        userDto.setPartPosition(codeDictionary.getCodeName(codeNames, user.getPartPosition()));
+        return userDto;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,171 @@
+package com.lts5.user.util;
+
+import com.lts5.user.config.JwtSigningProperties;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 비대칭 서명 키 관리
+ * - app.jwt.signing.mode=asymmetric 이면 설정된 개인키(active-kid)로 서명하고, 모든 공개키를 kid 로 검증합니다.
+ * - 키 교체: 새 키를 먼저 JWKS 에 공개하고(JWKS 캐시 시간 이상 경과 후) active-kid 를 바꾸며,
+ *   이전 키는 발급된 토큰이 만료될 때까지 공개키만 남겨 둡니다.
+ * - 키가 설정되지 않으면 기동에 실패합니다. allow-ephemeral-key=true 인 경우에만 임시 키를 생성합니다. (로컬 단일 인스턴스 개발용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyManager {
+
+    private static final String ASYMMETRIC_MODE = "asymmetric";
+
+    private final JwtSigningProperties properties;
+
+    private volatile List<Map<String, Object>> jwks = List.of();
+
+    @PostConstruct
+    public void init() {
+        if (!ASYMMETRIC_MODE.equalsIgnoreCase(properties.getMode())) {
+            log.info("JWT 서명 모드: HS256 (공유 비밀키)");
+            return;
+        }
+
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+        if (!algorithm.isEllipticCurve() && !algorithm.isRsa()) {
+            throw new IllegalStateException("비대칭 서명 알고리즘이 아닙니다: " + algorithm.getValue());
+        }
+
+        Map<String, Key> verificationKeys = new LinkedHashMap<>();
+        Map<String, PublicKey> publicKeys = new LinkedHashMap<>();
+        String activeKid = properties.getActiveKid();
+        PrivateKey signingKey = null;
+
+        for (JwtSigningProperties.Key keyProperties : properties.getKeys()) {
+            PublicKey publicKey = readPublicKey(keyProperties.getPublicKey(), algorithm);
+            publicKeys.put(keyProperties.getKid(), publicKey);
+            verificationKeys.put(keyProperties.getKid(), publicKey);
+
+            boolean active = activeKid == null || activeKid.isBlank()
+                    ? signingKey == null && keyProperties.getPrivateKey() != null
+                    : activeKid.equals(keyProperties.getKid());
+            if (active) {
+                if (keyProperties.getPrivateKey() == null) {
+                    throw new IllegalStateException("서명 키에 개인키가 없습니다. kid: " + keyProperties.getKid());
+                }
+                signingKey = readPrivateKey(keyProperties.getPrivateKey(), algorithm);
+                activeKid = keyProperties.getKid();
+            }
+        }
+
+        if (properties.getKeys().isEmpty()) {
+            if (!properties.isAllowEphemeralKey()) {
+                throw new IllegalStateException("asymmetric 모드에 JWT 서명 키가 설정되지 않았습니다. app.jwt.signing.keys 를 설정하세요.");
+            }
+            KeyPair keyPair = Keys.keyPairFor(algorithm);
+            activeKid = "ephemeral-" + System.currentTimeMillis();
+            signingKey = keyPair.getPrivate();
+            publicKeys.put(activeKid, keyPair.getPublic());
+            verificationKeys.put(activeKid, keyPair.getPublic());
+            log.warn("JWT 서명 키가 설정되지 않아 임시 키를 생성했습니다. 재기동/다중 인스턴스 환경에서는 토큰 검증이 실패합니다. kid: {}", activeKid);
+        } else if (signingKey == null) {
+            throw new IllegalStateException("서명 키를 찾을 수 없습니다. active-kid: " + activeKid);
+        }
+
+        JwtUtil.configureSigning(signingKey, algorithm, activeKid, verificationKeys, properties.isAcceptHmac());
+
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        publicKeys.forEach((kid, publicKey) -> jwkList.add(toJwk(kid, publicKey, algorithm)));
+        jwks = List.copyOf(jwkList);
+
+        log.info("JWT 서명 모드: {} (kid: {}, 공개키 {}개, HS256 검증 허용: {})",
+                algorithm.getValue(), activeKid, publicKeys.size(), properties.isAcceptHmac());
+    }
+
+    /**
+     * JWKS (RFC 7517) 문서를 반환합니다. HS256 모드에서는 빈 키 목록입니다.
+     */
+    public Map<String, Object> getJwks() {
+        return Map.of("keys", jwks);
+    }
+
+    private static Map<String, Object> toJwk(String kid, PublicKey publicKey, SignatureAlgorithm algorithm) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            int fieldSize = (ecPublicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-" + ecPublicKey.getParams().getCurve().getField().getFieldSize());
+            jwk.put("x", base64Url(ecPublicKey.getW().getAffineX(), fieldSize));
+            jwk.put("y", base64Url(ecPublicKey.getW().getAffineY(), fieldSize));
+        } else if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsaPublicKey.getModulus(), 0));
+            jwk.put("e", base64Url(rsaPublicKey.getPublicExponent(), 0));
+        }
+        jwk.put("kid", kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        return jwk;
+    }
+
+    /**
+     * 부호 없는 big-endian 바이트를 base64url 로 인코딩합니다. (length > 0 이면 앞쪽을 0 으로 채움)
+     */
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (length > bytes.length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static PublicKey readPublicKey(String encoded, SignatureAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | RuntimeException e) {
+            throw new IllegalStateException("JWT 공개키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PrivateKey readPrivateKey(String encoded, SignatureAlgorithm algorithm) {
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | RuntimeException e) {
+            throw new IllegalStateException("JWT 개인키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static KeyFactory keyFactory(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm.isEllipticCurve() ? "EC" : "RSA");
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
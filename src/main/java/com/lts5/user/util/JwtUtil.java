@@ -1,9 +1,19 @@
 package com.lts5.user.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.security.Key;
 import java.util.Date;
 import java.util.Map;
 
@@ -14,44 +24,106 @@ public class JwtUtil {
     private static final long ACCESS_TOKEN_EXPIRATION_TIME = 3L * 24 * 60 * 60 * 1000;  // 3일
     private static final long REFRESH_TOKEN_EXPIRATION_TIME = 7L * 24 * 60 * 60 * 1000; // 7일
 
+    // 기존 signWith(HS256, String) 과 동일하게 SECRET_KEY 를 Base64 디코딩한 바이트를 키로 사용
+    private static final SecretKey HMAC_KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+
+    // 서명 키와 파서는 한 번만 구성하여 재사용 (JwtParser 는 불변이며 스레드 안전)
+    // 기본은 HS256 이며, 비대칭 서명 모드에서는 JwtKeyManager 가 기동 시 교체합니다.
+    private static volatile SigningState signingState =
+            new SigningState(HMAC_KEY, SignatureAlgorithm.HS256, null, buildParser(Map.of(), true));
+
     public static String generateAccessToken(String username, Map<String, Object> claims) {
-        return Jwts.builder()
+        return sign(Jwts.builder()
                 .setClaims(claims)
                 .setSubject(username)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_TIME))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION_TIME)));
     }
 
     public static String generateRefreshToken(String username) {
-        return Jwts.builder()
+        return generateRefreshToken(username, Map.of());
+    }
+
+    /**
+     * 추가 클레임을 포함한 Refresh Token 생성 (기기별 세션 식별용)
+     */
+    public static String generateRefreshToken(String username, Map<String, Object> claims) {
+        return sign(Jwts.builder()
+                .setClaims(claims)
                 .setSubject(username)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_TIME))
-                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
-                .compact();
+                .setExpiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION_TIME)));
+    }
+
+    /**
+     * 비대칭 서명 모드로 전환합니다.
+     * @param signingKey 현재 서명에 사용할 개인키
+     * @param algorithm 서명 알고리즘 (ES256, RS256 등)
+     * @param keyId 서명 키 ID (kid 헤더)
+     * @param verificationKeys kid → 공개키 (교체 중인 이전 키 포함)
+     * @param acceptHmac 전환 기간 동안 기존 HS256 토큰 검증 허용 여부
+     */
+    public static void configureSigning(Key signingKey, SignatureAlgorithm algorithm, String keyId,
+                                        Map<String, Key> verificationKeys, boolean acceptHmac) {
+        signingState = new SigningState(signingKey, algorithm, keyId,
+                buildParser(Map.copyOf(verificationKeys), acceptHmac));
+    }
+
+    private static String sign(JwtBuilder builder) {
+        SigningState state = signingState;
+        if (state.keyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, state.keyId());
+        }
+        return builder.signWith(state.signingKey(), state.algorithm()).compact();
+    }
+
+    /**
+     * kid 헤더로 검증 키를 선택하는 파서 구성
+     * jjwt 가 헤더의 alg 와 키 종류가 맞는지 확인하므로 알고리즘 혼동 공격은 거부됩니다.
+     */
+    private static JwtParser buildParser(Map<String, Key> verificationKeys, boolean acceptHmac) {
+        return Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        if (SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+                            if (acceptHmac) {
+                                return HMAC_KEY;
+                            }
+                            throw new UnsupportedJwtException("HS256 서명 토큰은 허용되지 않습니다.");
+                        }
+                        Key key = header.getKeyId() == null ? null : verificationKeys.get(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("알 수 없는 서명 키입니다. kid: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 서명 검증과 클레임 디코딩을 한 번에 수행합니다.
+     * @param token JWT 토큰
+     * @return subject, 만료 시각, 전체 클레임
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 형식 오류, 만료된 토큰인 경우
+     */
+    public ParsedToken parse(String token) {
+        Claims claims = signingState.parser().parseClaimsJws(token).getBody();
+        return new ParsedToken(claims.getSubject(), claims.getExpiration(), claims);
     }
 
     public String extractUsername(String token) {
-        return Jwts.parser()
-                .setSigningKey(SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parse(token).subject();
     }
 
     public boolean validateToken(String token, String username) {
-        return username.equals(extractUsername(token)) && !isTokenExpired(token);
+        ParsedToken parsed = parse(token);
+        return username.equals(parsed.subject()) && !parsed.isExpired();
     }
 
     public boolean isTokenExpired(String token) {
-        return Jwts.parser()
-                .setSigningKey(SECRET_KEY)
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration()
-                .before(new Date());
+        return parse(token).isExpired();
     }
 
     public static long getAccessTokenExpirationTime() {
@@ -83,4 +155,16 @@ public class JwtUtil {
         String authHeader = request.getHeader("Authorization");
         return extractTokenFromHeader(authHeader);
     }
+
+    private record SigningState(Key signingKey, SignatureAlgorithm algorithm, String keyId, JwtParser parser) {
+    }
+
+    /**
+     * 검증된 토큰의 파싱 결과
+     */
+    public record ParsedToken(String subject, Date expiration, Claims claims) {
+        public boolean isExpired() {
+            return expiration.before(new Date());
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.lts5.user.util;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 응답이 필요 없는 여러 명령을 한 번에 전송하는 유틸
+ * Spring Data Redis 는 Cluster 연결에서 파이프라인을 지원하지 않으므로, Cluster 에서는 같은 명령을 키별로 순차 전송합니다.
+ * (각 명령은 키의 슬롯을 가진 노드로 전달됨)
+ */
+public final class RedisPipeline {
+
+    private RedisPipeline() {
+    }
+
+    /**
+     * 파이프라인을 사용할 수 있는 연결인지 여부 (Cluster 가 아니면 true)
+     */
+    public static boolean isSupported(RedisTemplate<?, ?> redisTemplate) {
+        RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        return !(connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware());
+    }
+
+    /**
+     * 명령을 파이프라인으로 전송합니다. (Cluster 에서는 순차 전송, 명령 응답은 사용하지 않음)
+     */
+    public static void execute(RedisTemplate<?, ?> redisTemplate, RedisCallback<?> commands) {
+        if (isSupported(redisTemplate)) {
+            redisTemplate.executePipelined(commands);
+        } else {
+            redisTemplate.execute(commands);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.lts5.user.util;
+
+import com.primes.library.filter.TenantContext;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 검색 COUNT 결과 단기 캐시
+ * - 같은 조건으로 페이지만 바꿔 조회할 때 매번 COUNT 쿼리를 다시 실행하지 않도록, (엔티티, 테넌트, 검색 조건) 별 전체 건수를 ttl-millis 동안 보관합니다.
+ * - 검색 조건은 빈 값이 제외된 채 고정된 필드 순서로 조립되므로 QueryDSL Predicate 문자열을 키로 사용합니다.
+ * - 생성/삭제가 바로 반영되지 않을 수 있으며(최대 ttl-millis), 페이지 내용에는 영향이 없습니다.
+ */
+@Component
+public class SearchCountCache {
+
+    @Value("${app.search.count-cache.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.search.count-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.search.count-cache.ttl-millis:5000}")
+    private long ttlMillis;
+
+    // accessOrder=true 로 LRU 순서 유지, 모든 접근은 this 로 동기화
+    private final LinkedHashMap<String, CachedCount> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    /**
+     * 캐시된 건수를 반환하고, 없으면 countQuery 를 실행해 캐시에 저장합니다.
+     */
+    public long count(Class<?> entityType, Predicate predicate, LongSupplier countQuery) {
+        if (!enabled) {
+            return countQuery.getAsLong();
+        }
+
+        // 빈 BooleanBuilder 의 toString 은 인스턴스마다 달라지므로 내부 Predicate 로 키를 만듦
+        Predicate normalized = predicate instanceof BooleanBuilder builder ? builder.getValue() : predicate;
+        String key = entityType.getSimpleName() + ":" + TenantContext.getTenantId() + ":" + normalized;
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            CachedCount cached = entries.get(key);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return cached.count();
+                }
+                entries.remove(key);
+            }
+        }
+
+        long count = countQuery.getAsLong();
+        put(key, new CachedCount(count, now + ttlMillis));
+        return count;
+    }
+
+    private synchronized void put(String key, CachedCount cachedCount) {
+        entries.put(key, cachedCount);
+
+        Iterator<Map.Entry<String, CachedCount>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.lts5.user.util;
+
+import jakarta.validation.ConstraintViolationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 커서 페이지네이션용 불투명 커서 인코딩/디코딩 유틸
+ * 클라이언트가 ID 를 직접 다루지 않도록 마지막 행의 ID 를 Base64 URL(패딩 없음)로 감쌉니다.
+ */
+public final class SearchCursor {
+
+    private SearchCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 마지막 행 ID (빈 값이면 첫 페이지로 보고 null)
+     * @throws ConstraintViolationException 해석할 수 없는 커서 (컨트롤러에서는 @ValidCursor 로 먼저 걸러짐)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        Long lastId = parse(cursor);
+        if (lastId == null) {
+            throw new ConstraintViolationException("유효하지 않은 커서입니다.", Set.of());
+        }
+        return lastId;
+    }
+
+    public static boolean isValid(String cursor) {
+        return cursor == null || cursor.isBlank() || parse(cursor) != null;
+    }
+
+    private static Long parse(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.lts5.user.util;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * SearchCursor 로 해석할 수 있는 커서인지 검증합니다. (null/빈 값은 첫 페이지로 허용)
+ */
+@Documented
+@Constraint(validatedBy = ValidCursor.CursorValidator.class)
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCursor {
+
+    String message() default "유효하지 않은 커서입니다.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    class CursorValidator implements ConstraintValidator<ValidCursor, String> {
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return SearchCursor.isValid(value);
+        }
+    }
+}
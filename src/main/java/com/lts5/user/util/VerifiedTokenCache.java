@@ -0,0 +1,114 @@
+package com.lts5.user.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 서명 검증이 끝난 토큰의 파싱 결과 캐시
+ * - 같은 토큰으로 반복되는 refresh/logout 요청에서 HMAC 검증과 JSON 디코딩을 생략합니다.
+ * - 토큰 원문 대신 SHA-256 다이제스트를 키로 사용합니다.
+ * - 최대 크기(LRU)와 TTL 로 제거하며, TTL 은 토큰 자체의 만료 시각을 넘지 않습니다.
+ * - 저장소에서 refresh token 이 삭제/교체되면 해당 사용자(subject)의 항목을 모두 제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+
+    @Value("${app.verified-token-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.verified-token-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${app.verified-token-cache.ttl-millis:60000}")
+    private long ttlMillis;
+
+    // accessOrder=true 로 LRU 순서 유지, 모든 접근은 this 로 동기화
+    private final LinkedHashMap<String, CachedToken> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Set<String>> digestsBySubject = new HashMap<>();
+
+    /**
+     * 캐시된 파싱 결과를 반환하고, 없으면 서명 검증 후 캐시에 저장합니다.
+     * @throws io.jsonwebtoken.JwtException 서명 불일치, 형식 오류, 만료된 토큰인 경우
+     */
+    public JwtUtil.ParsedToken parse(String token) {
+        if (!enabled) {
+            return jwtUtil.parse(token);
+        }
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            CachedToken cached = entries.get(digest);
+            if (cached != null) {
+                if (cached.expiresAt() > now) {
+                    return cached.parsedToken();
+                }
+                remove(digest);
+            }
+        }
+
+        JwtUtil.ParsedToken parsedToken = jwtUtil.parse(token);
+        long expiresAt = Math.min(now + ttlMillis, parsedToken.expiration().getTime());
+        if (parsedToken.subject() != null && expiresAt > now) {
+            put(digest, new CachedToken(parsedToken, expiresAt));
+        }
+        return parsedToken;
+    }
+
+    /**
+     * 사용자의 모든 캐시 항목을 제거합니다.
+     */
+    public synchronized void evictSubject(String subject) {
+        Set<String> digests = digestsBySubject.remove(subject);
+        if (digests != null) {
+            digests.forEach(entries::remove);
+        }
+    }
+
+    private synchronized void put(String digest, CachedToken cachedToken) {
+        entries.put(digest, cachedToken);
+        digestsBySubject.computeIfAbsent(cachedToken.parsedToken().subject(), key -> new HashSet<>()).add(digest);
+
+        Iterator<Map.Entry<String, CachedToken>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CachedToken> eldest = iterator.next();
+            iterator.remove();
+            removeFromSubjectIndex(eldest.getKey(), eldest.getValue().parsedToken().subject());
+        }
+    }
+
+    private void remove(String digest) {
+        CachedToken removed = entries.remove(digest);
+        if (removed != null) {
+            removeFromSubjectIndex(digest, removed.parsedToken().subject());
+        }
+    }
+
+    private void removeFromSubjectIndex(String digest, String subject) {
+        Set<String> digests = digestsBySubject.get(subject);
+        if (digests != null) {
+            digests.remove(digest);
+            if (digests.isEmpty()) {
+                digestsBySubject.remove(subject);
+            }
+        }
+    }
+
+    private static String digest(String token) {
+        return TokenDigest.sha256(token);
+    }
+
+    private record CachedToken(JwtUtil.ParsedToken parsedToken, long expiresAt) {
+    }
+}
@@ -9,6 +9,7 @@ import com.lts5.user.entity.RolePermission;
 import com.lts5.user.entity.ids.UserRoleId;
 import com.lts5.user.entity.ids.RolePermissionId;
 import com.lts5.user.payload.request.auth.LoginRequest;
+import com.lts5.user.payload.request.auth.PermissionCheckBatchRequest;
 import com.lts5.user.payload.request.auth.RegisterRequest;
 import com.lts5.user.payload.request.auth.RefreshTokenRequest;
 import com.lts5.user.payload.request.auth.ResetPasswordRequest;
@@ -19,6 +20,7 @@ import com.lts5.user.repository.relation.UserRoleRepository;
 import com.lts5.user.repository.relation.RolePermissionRepository;
 import com.lts5.user.service.TokenStorageService;
 import com.lts5.user.util.JwtUtil;
+import com.primes.library.filter.TenantContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +34,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -49,7 +54,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 @TestPropertySource(properties = {
     "spring.kafka.bootstrap-servers=",
     "spring.kafka.consumer.bootstrap-servers=",
-    "spring.kafka.producer.bootstrap-servers="
+    "spring.kafka.producer.bootstrap-servers=",
+    "app.username-filter.enabled=true"
 })
 @Transactional
 class AuthControllerTest {
@@ -172,6 +178,71 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.data").value(true));
     }
 
+    @Test
+    void 로그인_다른테넌트에서삭제된동명사용자_로그인성공() throws Exception {
+        // Given - 같은 사용자명이 두 테넌트에 존재
+        for (short tenantId : new short[] {10007, 10008}) {
+            userRepository.save(User.builder()
+                    .username("kim")
+                    .password(passwordEncoder.encode("password123"))
+                    .name("김사용자")
+                    .email("kim" + tenantId + "@example.com")
+                    .tenantId(tenantId)
+                    .isTenantAdmin("0")
+                    .build());
+        }
+
+        // 테넌트 A 에서 삭제
+        TenantContext.setTenantId((short) 10007);
+        mockMvc.perform(delete("/kim"))
+                .andExpect(status().isOk());
+
+        LoginRequest request = new LoginRequest();
+        request.setUsername("kim");
+        request.setPassword("password123");
+        request.setTenantId((short) 10008);
+
+        // When & Then - 테넌트 B 의 사용자는 로그인 가능
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+    }
+
+    @Test
+    void 로그인및중복확인_대소문자다른사용자명_기존사용자로처리() throws Exception {
+        // Given
+        userRepository.save(User.builder()
+                .username("admin")
+                .password(passwordEncoder.encode("password123"))
+                .name("관리자")
+                .email("admin@example.com")
+                .tenantId((short) 10001)
+                .isTenantAdmin("0")
+                .build());
+
+        LoginRequest request = new LoginRequest();
+        request.setUsername("Admin");
+        request.setPassword("password123");
+        request.setTenantId((short) 10001);
+
+        // When & Then - 사용자명 비교는 DB 콜레이션과 같이 대소문자 무시
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+
+        mockMvc.perform(get("/auth/check-username")
+                        .param("username", "ADMIN")
+                        .param("tenantId", "10001"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data").value(true));
+    }
+
     @Test
     void 비밀번호재설정_유효한사용자명과새비밀번호_성공응답반환() throws Exception {
         // Given
@@ -513,4 +584,216 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.status").value("success"))
                 .andExpect(jsonPath("$.data").value("true"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 권한일괄확인_보유코드와미보유코드_코드별결과반환() throws Exception {
+        // Given
+        String permissionCode = "user:read";
+
+        // 테스트 사용자 생성
+        User user = User.builder()
+                .username("batchuser")
+                .password(passwordEncoder.encode("password123"))
+                .name("테스트 사용자")
+                .email("test@example.com")
+                .tenantId((short) 10001)
+                .isTenantAdmin("0")
+                .build();
+        User savedUser = userRepository.save(user);
+
+        // 권한 및 역할 생성
+        Permission savedPermission = permissionRepository.save(Permission.builder()
+                .code(permissionCode)
+                .description("사용자 읽기 권한")
+                .serviceName("user-service")
+                .tenantId((short) 10001)
+                .build());
+        Role savedRole = roleRepository.save(Role.builder()
+                .name("BATCH_ROLE")
+                .description("일괄 확인 역할")
+                .tenantId((short) 10001)
+                .build());
+
+        userRoleRepository.saveAndFlush(UserRole.builder()
+                .id(new UserRoleId(savedUser.getId(), savedRole.getId()))
+                .user(savedUser)
+                .role(savedRole)
+                .tenantId((short) 10001)
+                .build());
+        rolePermissionRepository.saveAndFlush(RolePermission.builder()
+                .id(new RolePermissionId(savedRole.getId(), savedPermission.getId()))
+                .role(savedRole)
+                .permission(savedPermission)
+                .tenantId((short) 10001)
+                .build());
+
+        String userId = savedUser.getId().toString();
+        PermissionCheckBatchRequest request = new PermissionCheckBatchRequest();
+        request.setUserId(userId);
+        request.setCodes(List.of(permissionCode, "user:delete"));
+
+        // When & Then
+        mockMvc.perform(post("/auth/check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data['" + userId + "']['user:read']").value(true))
+                .andExpect(jsonPath("$.data['" + userId + "']['user:delete']").value(false));
+    }
+
+    @Test
+    void 권한일괄확인_확인대상없음또는빈코드_요청거부() throws Exception {
+        // userId + codes, checks 모두 없는 요청
+        mockMvc.perform(post("/auth/check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andDo(print())
+                .andExpect(status().is4xxClientError());
+
+        // codes 에 null 이 포함된 요청
+        mockMvc.perform(post("/auth/check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"1\",\"codes\":[\"user:read\",null]}"))
+                .andDo(print())
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    void 권한사전조회_테넌트권한_ID순코드목록반환() throws Exception {
+        // Given
+        permissionRepository.save(Permission.builder()
+                .code("dict:read")
+                .description("사전 읽기 권한")
+                .serviceName("user-service")
+                .tenantId((short) 10002)
+                .build());
+        permissionRepository.save(Permission.builder()
+                .code("dict:write")
+                .description("사전 쓰기 권한")
+                .serviceName("user-service")
+                .tenantId((short) 10002)
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/auth/permissions/dictionary")
+                        .param("tenantId", "10002"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.tenantId").value(10002))
+                .andExpect(jsonPath("$.data.permVer").exists())
+                .andExpect(jsonPath("$.data.codes[0]").value("dict:read"))
+                .andExpect(jsonPath("$.data.codes[1]").value("dict:write"));
+    }
+
+    @Test
+    void 테넌트세션폐기_테넌트사용자토큰_일괄삭제() throws Exception {
+        // Given
+        for (String username : List.of("revoke1", "revoke2")) {
+            userRepository.save(User.builder()
+                    .username(username)
+                    .password(passwordEncoder.encode("password123"))
+                    .name("폐기 대상 사용자")
+                    .email(username + "@example.com")
+                    .tenantId((short) 10003)
+                    .isTenantAdmin("0")
+                    .build());
+            tokenStorageService.saveRefreshToken(username, JwtUtil.generateRefreshToken(username),
+                    JwtUtil.getRefreshTokenExpirationTime());
+        }
+
+        // When & Then
+        mockMvc.perform(delete("/auth/sessions")
+                        .param("tenantId", "10003"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.tenantId").value(10003))
+                .andExpect(jsonPath("$.data.revokedUsers").value(2));
+
+        assertThat(tokenStorageService.existsAll(List.of("revoke1", "revoke2"))).isEmpty();
+    }
+
+    @Test
+    void 테넌트세션폐기_다른테넌트동명사용자_토큰유지() throws Exception {
+        // Given - 같은 사용자명이 두 테넌트에 존재
+        for (short tenantId : new short[] {10005, 10006}) {
+            userRepository.save(User.builder()
+                    .username("sameuser")
+                    .password(passwordEncoder.encode("password123"))
+                    .name("동명 사용자")
+                    .email("sameuser" + tenantId + "@example.com")
+                    .tenantId(tenantId)
+                    .isTenantAdmin("0")
+                    .build());
+        }
+        userRepository.save(User.builder()
+                .username("onlyuser")
+                .password(passwordEncoder.encode("password123"))
+                .name("단일 테넌트 사용자")
+                .email("onlyuser@example.com")
+                .tenantId((short) 10005)
+                .isTenantAdmin("0")
+                .build());
+        for (String username : List.of("sameuser", "onlyuser")) {
+            tokenStorageService.saveRefreshToken(username, JwtUtil.generateRefreshToken(username),
+                    JwtUtil.getRefreshTokenExpirationTime());
+        }
+
+        // When & Then
+        mockMvc.perform(delete("/auth/sessions")
+                        .param("tenantId", "10005"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.revokedUsers").value(2));
+
+        assertThat(tokenStorageService.existsAll(List.of("sameuser", "onlyuser"))).containsExactly("sameuser");
+    }
+
+    @Test
+    void 기기별로그인_다른기기세션유지_기기단위폐기() throws Exception {
+        // Given
+        User user = userRepository.save(User.builder()
+                .username("multidev")
+                .password(passwordEncoder.encode("password123"))
+                .name("다중 기기 사용자")
+                .email("multidev@example.com")
+                .tenantId((short) 10004)
+                .isTenantAdmin("0")
+                .build());
+
+        for (String deviceId : List.of("pop-terminal-01", "mes-web")) {
+            LoginRequest request = new LoginRequest();
+            request.setUsername("multidev");
+            request.setPassword("password123");
+            request.setTenantId((short) 10004);
+            request.setDeviceId(deviceId);
+            mockMvc.perform(post("/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk());
+        }
+
+        // When & Then
+        mockMvc.perform(get("/auth/sessions/" + user.getId())
+                        .param("tenantId", "10004"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.length()").value(2));
+
+        mockMvc.perform(delete("/auth/sessions/" + user.getId() + "/pop-terminal-01")
+                        .param("tenantId", "10004"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"));
+
+        mockMvc.perform(get("/auth/sessions/" + user.getId())
+                        .param("tenantId", "10004"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].deviceId").value("mes-web"));
+    }
+}
@@ -0,0 +1,123 @@
+package com.lts5.user.controller;
+
+import java.time.LocalDateTime;
+import com.lts5.user.entity.Group;
+import com.lts5.user.entity.User;
+import com.lts5.user.repository.group.GroupRepository;
+import com.lts5.user.repository.user.UserRepository;
+import com.primes.library.filter.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+
+@SpringBootTest(
+    properties = {
+        "spring.kafka.autoStartup=false",
+        "spring.kafka.consumer.auto-startup=false",
+        "spring.kafka.producer.auto-startup=false",
+        "kafka.enabled=false",
+        "primes.library.kafka.enabled=false"
+    }
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=",
+    "spring.kafka.consumer.bootstrap-servers=",
+    "spring.kafka.producer.bootstrap-servers="
+})
+@Transactional
+class AutocompleteControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        // 테스트용 TenantContext 설정
+        TenantContext.setTenantId((short) 10001);
+    }
+
+    @Test
+    void 사용자자동완성_대소문자다른접두어_일치사용자만반환() throws Exception {
+        // Given
+        saveUser("kimcs", "김철수");
+        saveUser("kimyh", "김영희");
+        saveUser("leejh", "이지훈");
+        userRepository.flush();
+
+        // When & Then
+        mockMvc.perform(get("/autocomplete/users")
+                        .param("q", "KIM")
+                        .param("limit", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].value").value("kimcs"))
+                .andExpect(jsonPath("$.data[0].label").value("김철수"))
+                .andExpect(jsonPath("$.data[1].value").value("kimyh"));
+    }
+
+    @Test
+    void 그룹자동완성_삭제된그룹_결과에서제외() throws Exception {
+        // Given
+        saveGroup("개발팀", false);
+        saveGroup("개발지원팀", false);
+        saveGroup("개발운영팀", true);
+        saveGroup("영업팀", false);
+        groupRepository.flush();
+
+        // When & Then
+        mockMvc.perform(get("/autocomplete/groups")
+                        .param("q", "개발"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
+    private void saveUser(String username, String name) {
+        userRepository.save(User.builder()
+                .username(username)
+                .password("password123")
+                .name(name)
+                .email(username + "@example.com")
+                .tenantId((short) 10001)
+                .isTenantAdmin("0")
+                .isDelete(false)
+                .createdAt(LocalDateTime.now())
+                .createdBy("testuser")
+                .updatedAt(LocalDateTime.now())
+                .updatedBy("testuser")
+                .build());
+    }
+
+    private void saveGroup(String name, boolean deleted) {
+        groupRepository.save(Group.builder()
+                .name(name)
+                .description(name + " 설명")
+                .tenantId((short) 10001)
+                .isDelete(deleted)
+                .build());
+    }
+}
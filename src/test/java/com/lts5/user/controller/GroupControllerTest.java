@@ -94,6 +94,32 @@ class GroupControllerTest {
                 .andExpect(jsonPath("$.data.content[0].description").value("테스트 그룹 설명"));
     }
 
+    @Test
+    void 그룹조회_전체건수제외_다음페이지여부만반환() throws Exception {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            groupRepository.save(Group.builder()
+                    .name("슬라이스그룹" + i)
+                    .description("슬라이스 그룹 설명")
+                    .isDelete(false)
+                    .build());
+        }
+        groupRepository.flush();
+
+        // When & Then
+        mockMvc.perform(get("/groups")
+                        .param("name", "슬라이스그룹")
+                        .param("page", "0")
+                        .param("size", "2")
+                        .param("withTotal", "false"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.last").value(false))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+    }
+
     @Test
     void 그룹생성_유효한생성데이터_생성된그룹정보반환() throws Exception {
         // Given
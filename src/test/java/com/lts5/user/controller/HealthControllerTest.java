@@ -14,6 +14,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -234,4 +237,26 @@ class HealthControllerTest {
         verify(redisHealthService).testConnection();
         verify(databaseTokenStorageService).existsRefreshToken("health_check_test");
     }
+
+    @Test
+    void Redis서킷브레이커상태확인_OPEN상태_상태와전환횟수반환() throws Exception {
+        // Given
+        Map<String, Object> circuitBreakerStatus = new LinkedHashMap<>();
+        circuitBreakerStatus.put("state", "OPEN");
+        circuitBreakerStatus.put("bufferedCalls", 10);
+        circuitBreakerStatus.put("failureRate", 60);
+        circuitBreakerStatus.put("transitions", Map.of("CLOSED->OPEN", 1L));
+        when(redisHealthService.getCircuitBreakerStatus()).thenReturn(circuitBreakerStatus);
+
+        // When & Then
+        mockMvc.perform(get("/health/redis/circuit-breaker"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.state").value("OPEN"))
+                .andExpect(jsonPath("$.data.failureRate").value(60))
+                .andExpect(jsonPath("$.data.transitions['CLOSED->OPEN']").value(1));
+
+        verify(redisHealthService).getCircuitBreakerStatus();
+    }
 }
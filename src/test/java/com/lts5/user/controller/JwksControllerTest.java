@@ -0,0 +1,56 @@
+package com.lts5.user.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+
+@SpringBootTest(
+    properties = {
+        "spring.kafka.autoStartup=false",
+        "spring.kafka.consumer.auto-startup=false",
+        "spring.kafka.producer.auto-startup=false",
+        "kafka.enabled=false",
+        "primes.library.kafka.enabled=false"
+    }
+)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.kafka.bootstrap-servers=",
+    "spring.kafka.consumer.bootstrap-servers=",
+    "spring.kafka.producer.bootstrap-servers="
+})
+class JwksControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void JWKS조회_HS256모드_빈키목록과캐시헤더반환() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=3600")))
+                .andExpect(header().string("Cache-Control", containsString("public")))
+                .andExpect(jsonPath("$.keys").isArray())
+                .andExpect(jsonPath("$.keys").isEmpty());
+    }
+}
@@ -1,17 +1,21 @@
 package com.lts5.user.controller;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lts5.user.entity.Group;
 import com.lts5.user.entity.Role;
 import com.lts5.user.entity.User;
+import com.lts5.user.payload.request.auth.RegisterRequest;
 import com.lts5.user.payload.request.user.UserUpdateRequest;
 import com.lts5.user.repository.group.GroupRepository;
 import com.lts5.user.repository.role.RoleRepository;
 import com.lts5.user.repository.user.UserRepository;
+import com.lts5.user.util.SearchCursor;
 import com.primes.library.filter.TenantContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,7 +47,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 @TestPropertySource(properties = {
     "spring.kafka.bootstrap-servers=",
     "spring.kafka.consumer.bootstrap-servers=",
-    "spring.kafka.producer.bootstrap-servers="
+    "spring.kafka.producer.bootstrap-servers=",
+    "app.user-search-index.enabled=true"
 })
 @Transactional
 class UserControllerTest {
@@ -340,6 +345,101 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(2));
     }
 
+    @Test
+    void 사용자부분일치조회_가입직후_색인과관계없이신규사용자반환() throws Exception {
+        // Given - 첫 조회로 테넌트 색인 구성 시작 (구성 전/후 모두 신규 사용자가 빠지면 안 됨)
+        TenantContext.setTenantId((short) 10009);
+        mockMvc.perform(get("")
+                        .param("name", "길동테"))
+                .andExpect(status().isOk());
+
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername("newcomer");
+        request.setPassword("password123");
+        request.setName("홍길동테스트");
+        request.setEmail("newcomer@example.com");
+        request.setTenantId((short) 10009);
+        request.setIsTenantAdmin("0");
+        mockMvc.perform(post("/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        TenantContext.setTenantId((short) 10009);
+        mockMvc.perform(get("")
+                        .param("name", "길동테"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].username").value("newcomer"));
+    }
+
+    @Test
+    void 사용자커서조회_다음커서전달_이어지는페이지반환() throws Exception {
+        // Given
+        TenantContext.setTenantId((short) 10001);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            User user = User.builder()
+                    .username("cursor" + i)
+                    .password(passwordEncoder.encode("password123"))
+                    .name("커서 사용자" + i)
+                    .email("cursor" + i + "@example.com")
+                    .tenantId((short) 10001)
+                    .isTenantAdmin("0")
+                    .isDelete(false)
+                    .createdAt(LocalDateTime.now())
+                    .createdBy("testuser")
+                    .updatedAt(LocalDateTime.now())
+                    .updatedBy("testuser")
+                    .build();
+            ids.add(userRepository.save(user).getId());
+        }
+        userRepository.flush();
+        ids.sort(Comparator.reverseOrder());
+        String nextCursor = SearchCursor.encode(ids.get(1));
+
+        // When & Then - 첫 페이지
+        mockMvc.perform(get("/cursor")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].id").value(ids.get(0)))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(nextCursor));
+
+        // When & Then - 다음 페이지
+        mockMvc.perform(get("/cursor")
+                        .param("size", "2")
+                        .param("after", nextCursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(ids.get(2)))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void 사용자커서조회_잘못된커서또는페이지크기초과_요청거부() throws Exception {
+        TenantContext.setTenantId((short) 10001);
+
+        mockMvc.perform(get("/cursor")
+                        .param("after", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().is4xxClientError());
+
+        mockMvc.perform(get("/cursor")
+                        .param("size", "1001"))
+                .andDo(print())
+                .andExpect(status().is4xxClientError());
+    }
+
     @Test
     void 사용자에게그룹지정_유효한그룹ID_사용자그룹정보반환() throws Exception {
         // Given